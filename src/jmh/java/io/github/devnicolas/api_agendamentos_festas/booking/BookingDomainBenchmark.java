@@ -0,0 +1,96 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validações de domínio de Booking executadas a cada create/update
+ * (mvn -Pjmh test-compile exec:exec)
+ *
+ * Os cenários inválidos medem o custo da ValidationException, que inclui a
+ * captura do stack trace.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingDomainBenchmark {
+
+    private Place place;
+    private LocalDateTime eventDate;
+    private LocalDateTime dateEnd;
+    private BigDecimal value;
+    private Booking booking;
+
+    @Setup
+    public void setup() {
+        place = new Place("Salão Azul", 100, "Rua A, 123");
+        eventDate = LocalDateTime.of(2030, 6, 15, 18, 0);
+        dateEnd = eventDate.plusHours(5);
+        value = new BigDecimal("1500.00");
+        booking = new Booking(place, "Maria", eventDate, value, PartyPackageEnum.PREMIUM, dateEnd);
+    }
+
+    @Benchmark
+    public Booking constructor() {
+        return new Booking(place, "Maria", eventDate, value, PartyPackageEnum.PREMIUM, dateEnd);
+    }
+
+    @Benchmark
+    public Object constructorInvalid() {
+        try {
+            return new Booking(place, "Maria", dateEnd, value, PartyPackageEnum.PREMIUM, eventDate);
+        } catch (ValidationException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Booking reschedule() {
+        booking.reschedule(eventDate, dateEnd);
+        return booking;
+    }
+
+    @Benchmark
+    public Object rescheduleInvalid() {
+        try {
+            booking.reschedule(dateEnd, eventDate);
+            return booking;
+        } catch (ValidationException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Booking changeValue() {
+        booking.changeValue(value);
+        return booking;
+    }
+
+    @Benchmark
+    public Object changeValueInvalid() {
+        try {
+            booking.changeValue(BigDecimal.ZERO);
+            return booking;
+        } catch (ValidationException ex) {
+            return ex;
+        }
+    }
+}
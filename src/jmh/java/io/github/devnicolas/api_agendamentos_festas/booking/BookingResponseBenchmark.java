@@ -0,0 +1,86 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho de resposta de GET /booking: toResponseDTO e serialização Jackson
+ * da página (mvn -Pjmh test-compile exec:exec)
+ *
+ * O ObjectMapper vem do mesmo builder que o Spring Boot usa, com o módulo
+ * de java.time registrado.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingResponseBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int size;
+
+    private BookingController controller;
+    private ObjectWriter listWriter;
+    private List<Booking> bookings;
+    private List<BookingResponseDTO> views;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        controller = new BookingController(null, null, null, null, null, objectMapper);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, BookingResponseDTO.class));
+
+        Place place = new Place("Salão Azul", 100, "Rua A, 123");
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 18, 0);
+        bookings = new ArrayList<>(size);
+        views = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = base.plusHours(i * 6L);
+            bookings.add(new Booking(place, "Cliente " + i, start,
+                new BigDecimal("1500.00"), PartyPackageEnum.STANDARD, start.plusHours(4)));
+            views.add(new BookingResponseDTO((long) i, 1L, "Cliente " + i, BookingStatus.PENDING,
+                new BigDecimal("1500.00"), PartyPackageEnum.STANDARD, start, start.plusHours(4), base));
+        }
+    }
+
+    @Benchmark
+    public List<BookingResponseDTO> toResponseDTO() {
+        return bookings.stream().map(controller::toResponseDTO).toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(views);
+    }
+
+    @Benchmark
+    public byte[] toResponseDTOAndSerialize() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(toResponseDTO());
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.devnicolas.api_agendamentos_festas.client;
+
+import io.github.devnicolas.api_agendamentos_festas.client.dtos.ClientResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construtor de Client com a lista de erros acumulada e o toResponseDTO do
+ * controller (mvn -Pjmh test-compile exec:exec)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientBenchmark {
+
+    private LocalDate dateOfBirth;
+    private Client client;
+    private ClientController controller;
+
+    @Setup
+    public void setup() {
+        dateOfBirth = LocalDate.of(1990, 5, 20);
+        client = new Client("João", "(11) 99999-0000", dateOfBirth);
+        controller = new ClientController(null);
+    }
+
+    @Benchmark
+    public Client constructor() {
+        return new Client("João", "(11) 99999-0000", dateOfBirth);
+    }
+
+    @Benchmark
+    public Object constructorAllInvalid() {
+        try {
+            return new Client(" ", null, null);
+        } catch (ValidationException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public ClientResponseDTO toResponseDTO() {
+        return controller.toResponseDTO(client);
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.devnicolas.api_agendamentos_festas.place;
+
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construtor de Place e toResponseDTO do controller
+ * (mvn -Pjmh test-compile exec:exec)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceMappingBenchmark {
+
+    private Place place;
+    private PlaceController controller;
+
+    @Setup
+    public void setup() {
+        place = new Place("Salão Azul", 100, "Rua A, 123");
+        controller = new PlaceController(null, null, null);
+    }
+
+    @Benchmark
+    public Place constructor() {
+        return new Place("Salão Azul", 100, "Rua A, 123");
+    }
+
+    @Benchmark
+    public PlaceResponseDTO toResponseDTO() {
+        return controller.toResponseDTO(place);
+    }
+}
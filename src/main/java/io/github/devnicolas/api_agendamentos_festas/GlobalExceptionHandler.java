@@ -1,5 +1,6 @@
 package io.github.devnicolas.api_agendamentos_festas;
 
+import io.github.devnicolas.api_agendamentos_festas.booking.exceptions.BookingConflictException;
 import io.github.devnicolas.api_agendamentos_festas.exception.ErrorResponseException;
 import io.github.devnicolas.api_agendamentos_festas.exception.ResourceNotFoundException;
 import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
@@ -25,6 +26,12 @@ public class GlobalExceptionHandler {
             ex.getMessage()));
   }
 
+  @ExceptionHandler(BookingConflictException.class)
+  public ResponseEntity<ErrorResponseException> handleBookingConflict(BookingConflictException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponseException(HttpStatus.CONFLICT.value(),
+            ex.getMessage()));
+  }
+
   @ExceptionHandler(ValidationException.class)
   public ResponseEntity<Map<String, Object>> handleValidationException(ValidationException ex) {
     Map<String, Object> response = new HashMap<>();
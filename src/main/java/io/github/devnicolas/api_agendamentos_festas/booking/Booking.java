@@ -3,6 +3,7 @@ package io.github.devnicolas.api_agendamentos_festas.booking;
 import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
 import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
 import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.entities.Identifiable;
 import io.github.devnicolas.api_agendamentos_festas.place.Place;
 import jakarta.persistence.*;
 
@@ -11,10 +12,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-public class Booking {
+public class Booking implements Identifiable<Long> {
 
+  // IDENTITY desliga o batch de inserts do Hibernate; a sequence pooled reserva 50 ids por ida ao banco
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_id_seq")
+  @SequenceGenerator(name = "booking_id_seq", sequenceName = "booking_id_seq", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
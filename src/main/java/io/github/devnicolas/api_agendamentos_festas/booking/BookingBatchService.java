@@ -0,0 +1,187 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.availability.AvailabilityIndex;
+import io.github.devnicolas.api_agendamentos_festas.booking.availability.IntervalTree;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingBatchErrorDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingRequestDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.lock.PlaceLock;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import io.github.devnicolas.api_agendamentos_festas.place.PlaceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Criação de reservas em lote. Os espaços são resolvidos numa única query e os
+ * inserts vão em lotes JDBC de booking.batch.size, cada lote na sua transação.
+ * Erros de um item são reportados pelo índice sem abortar os demais: se o
+ * lote falha no banco, os itens são regravados um a um e só o culpado fica
+ * de fora.
+ */
+@Service
+public class BookingBatchService {
+
+  private static final String CONFLICT_MESSAGE = "Espaço já reservado no período informado.";
+  private static final String ITEM_FAILURE_MESSAGE = "Falha ao gravar este item.";
+
+  // SQLSTATE do Postgres para violação de constraint de exclusão (ex_booking_place_period)
+  private static final String EXCLUSION_VIOLATION = "23P01";
+
+  private final PlaceRepository placeRepository;
+  private final AvailabilityIndex availabilityIndex;
+  private final PlaceLock placeLock;
+  private final BookingChanges bookingChanges;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  public BookingBatchService(PlaceRepository placeRepository,
+                             AvailabilityIndex availabilityIndex,
+                             PlaceLock placeLock,
+                             BookingChanges bookingChanges,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${booking.batch.size:50}") int batchSize) {
+    this.placeRepository = placeRepository;
+    this.availabilityIndex = availabilityIndex;
+    this.placeLock = placeLock;
+    this.bookingChanges = bookingChanges;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+  }
+
+  public Result createAll(List<BookingRequestDTO> requests) {
+    List<BookingBatchErrorDTO> errors = new ArrayList<>();
+    List<Booking> created = new ArrayList<>();
+    List<Item> valid = validate(requests, errors);
+
+    for (int from = 0; from < valid.size(); from += batchSize) {
+      List<Item> chunk = valid.subList(from, Math.min(from + batchSize, valid.size()));
+      created.addAll(insertChunk(chunk, errors));
+    }
+
+    errors.sort((a, b) -> Integer.compare(a.index(), b.index()));
+    return new Result(created, errors);
+  }
+
+  private List<Item> validate(List<BookingRequestDTO> requests, List<BookingBatchErrorDTO> errors) {
+    Map<Long, Place> places = placeRepository.findAllById(requests.stream()
+        .filter(Objects::nonNull)
+        .map(BookingRequestDTO::placeId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet()))
+      .stream()
+      .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+    // Conflitos entre itens do próprio lote
+    Map<Long, IntervalTree> accepted = new HashMap<>();
+    List<Item> valid = new ArrayList<>();
+
+    for (int index = 0; index < requests.size(); index++) {
+      BookingRequestDTO dto = requests.get(index);
+      try {
+        if (dto == null) {
+          throw new ValidationException(List.of("Agendamento é obrigatório."));
+        }
+        Place place = places.get(dto.placeId());
+        if (place == null) {
+          throw new ValidationException(List.of("Espaço não encontrado"));
+        }
+        Booking booking = new Booking(place, dto.clientName(), dto.eventDate(), dto.value(), dto.partyPackage(), dto.dateEnd());
+
+        IntervalTree tree = accepted.computeIfAbsent(place.getId(), id -> new IntervalTree());
+        long start = booking.getEventDate().toEpochSecond(ZoneOffset.UTC);
+        long end = booking.getDateEnd().toEpochSecond(ZoneOffset.UTC);
+        if (tree.overlaps(start, end, null)) {
+          throw new ValidationException(List.of(CONFLICT_MESSAGE));
+        }
+        tree.insert(index, start, end);
+        valid.add(new Item(index, place.getId(), booking));
+      } catch (ValidationException ex) {
+        errors.add(new BookingBatchErrorDTO(index, ex.getErrors()));
+      }
+    }
+    return valid;
+  }
+
+  private List<Booking> insertChunk(List<Item> chunk, List<BookingBatchErrorDTO> errors) {
+    List<Item> free = new ArrayList<>();
+    try {
+      return insert(chunk, free, errors);
+    } catch (DataAccessException | PersistenceException ex) {
+      // O lote voltou inteiro no rollback (ex.: 23P01 contra uma reserva gravada por outro nó)
+      List<Booking> saved = new ArrayList<>();
+      for (Item item : free) {
+        try {
+          saved.addAll(insert(List.of(item.retry()), new ArrayList<>(), errors));
+        } catch (DataAccessException | PersistenceException itemEx) {
+          String message = isExclusionViolation(itemEx) ? CONFLICT_MESSAGE : ITEM_FAILURE_MESSAGE;
+          errors.add(new BookingBatchErrorDTO(item.index(), List.of(message)));
+        }
+      }
+      return saved;
+    }
+  }
+
+  // Itens sem conflito no índice vão para free; os demais já saem como erro
+  private List<Booking> insert(List<Item> items, List<Item> free, List<BookingBatchErrorDTO> errors) {
+    List<Long> placeIds = items.stream().map(Item::placeId).distinct().toList();
+    return placeLock.execute(placeIds, () -> {
+      for (Item item : items) {
+        Booking booking = item.booking();
+        if (availabilityIndex.hasConflict(item.placeId(), booking.getEventDate(), booking.getDateEnd(), null)) {
+          errors.add(new BookingBatchErrorDTO(item.index(), List.of(CONFLICT_MESSAGE)));
+        } else {
+          free.add(item);
+        }
+      }
+
+      List<Booking> saved = transactionTemplate.execute(status -> {
+        List<Booking> bookings = free.stream().map(Item::booking).toList();
+        bookings.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+        return bookings;
+      });
+      bookingChanges.saved(saved);
+      return saved;
+    });
+  }
+
+  private static boolean isExclusionViolation(Throwable ex) {
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private record Item(int index, Long placeId, Booking booking) {
+
+    // A entidade do lote que falhou ficou com id e desanexada; o persist precisa de uma nova
+    Item retry() {
+      return new Item(index, placeId, new Booking(booking.getPlace(), booking.getClientName(), booking.getEventDate(),
+        booking.getValue(), booking.getPartyPackage(), booking.getDateEnd()));
+    }
+  }
+
+  public record Result(List<Booking> created, List<BookingBatchErrorDTO> errors) {
+  }
+}
@@ -0,0 +1,21 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+/**
+ * Estruturas em memória que acompanham as escritas em booking (índice de
+ * disponibilidade, timing wheel, snapshot de analytics). Recebem os eventos
+ * pelo {@link BookingChanges}; quem precisa esperar o commit cuida disso na
+ * própria implementação.
+ */
+public interface BookingChangeListener {
+
+  // Reserva criada ou alterada (inclusive mudança de status)
+  default void saved(Booking booking) {
+  }
+
+  default void removed(Long bookingId) {
+  }
+
+  // Expiração em lote por SQL nativo: só o status mudou para EXPIRED
+  default void expired(Long bookingId) {
+  }
+}
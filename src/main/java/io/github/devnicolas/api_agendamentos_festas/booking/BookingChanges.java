@@ -0,0 +1,46 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.ViewCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Ponto único por onde cada caminho de escrita de booking avisa os
+ * {@link BookingChangeListener}. Os listeners são resolvidos por
+ * ObjectProvider porque a PendingExpiryWheel é listener e também publica
+ * expirações.
+ */
+@Component
+public class BookingChanges {
+
+  private final ObjectProvider<BookingChangeListener> listeners;
+  private final ViewCache<Long, BookingResponseDTO> bookingViewCache;
+
+  public BookingChanges(ObjectProvider<BookingChangeListener> listeners,
+                        ViewCache<Long, BookingResponseDTO> bookingViewCache) {
+    this.listeners = listeners;
+    this.bookingViewCache = bookingViewCache;
+  }
+
+  public void saved(Booking booking) {
+    listeners.orderedStream().forEach(listener -> listener.saved(booking));
+  }
+
+  public void saved(List<Booking> bookings) {
+    listeners.orderedStream().forEach(listener -> bookings.forEach(listener::saved));
+  }
+
+  public void removed(Long bookingId) {
+    listeners.orderedStream().forEach(listener -> listener.removed(bookingId));
+  }
+
+  // A expiração não passa pelo BaseServiceImpl, então o evict da view também fica aqui,
+  // de uma vez para o chunk inteiro (poucas notificações em vez de uma por id)
+  public void expired(List<Long> bookingIds) {
+    listeners.orderedStream().forEach(listener -> bookingIds.forEach(listener::expired));
+    bookingViewCache.evictAll(bookingIds);
+  }
+}
@@ -1,7 +1,18 @@
 package io.github.devnicolas.api_agendamentos_festas.booking;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.github.devnicolas.api_agendamentos_festas.booking.analytics.BookingAnalytics;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingBatchResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingPackageTicketDTO;
 import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingRequestDTO;
 import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingStatsDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingWeekdayOccupancyDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.stats.BookingStatsService;
 import io.github.devnicolas.api_agendamentos_festas.interfaces.services.controllers.BaseControllerImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,11 +21,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 
 @RestController
@@ -22,8 +40,30 @@ import java.util.List;
 @Tag(name = "Bookings", description = "Gerenciamento de agendamentos de festas")
 public class BookingController extends BaseControllerImpl<Booking, BookingRequestDTO, BookingResponseDTO, Long> {
 
-    public BookingController(BookingService bookingService) {
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final BookingService bookingService;
+    private final BookingExportService bookingExportService;
+    private final BookingBatchService bookingBatchService;
+    private final BookingStatsService bookingStatsService;
+    private final BookingAnalytics bookingAnalytics;
+    private final ObjectWriter ndjsonWriter;
+
+    public BookingController(BookingService bookingService,
+                             BookingExportService bookingExportService,
+                             BookingBatchService bookingBatchService,
+                             BookingStatsService bookingStatsService,
+                             BookingAnalytics bookingAnalytics,
+                             ObjectMapper objectMapper) {
         super(bookingService);
+        this.bookingService = bookingService;
+        this.bookingExportService = bookingExportService;
+        this.bookingBatchService = bookingBatchService;
+        this.bookingStatsService = bookingStatsService;
+        this.bookingAnalytics = bookingAnalytics;
+        this.ndjsonWriter = objectMapper.writerFor(BookingResponseDTO.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @Override
@@ -33,6 +73,7 @@ public class BookingController extends BaseControllerImpl<Booking, BookingReques
             @ApiResponse(responseCode = "201", description = "Agendamento criado com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Dados inválidos (place não existe, datas inválidas, value <= 0)"),
+            @ApiResponse(responseCode = "409", description = "Espaço já reservado no período"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     @SecurityRequirement(name = "bearer-jwt")
@@ -55,16 +96,18 @@ public class BookingController extends BaseControllerImpl<Booking, BookingReques
     }
 
     @Override
+    @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Listar todos os agendamentos", description = "Retorna uma lista de todos os agendamentos cadastrados")
+    @Operation(summary = "Listar todos os agendamentos", description = "Retorna os agendamentos cadastrados paginados por id (keyset). Use o header X-Next-Cursor como parâmetro after para a próxima página")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de agendamentos retornada com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingResponseDTO.class))),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     @SecurityRequirement(name = "bearer-jwt")
-    public ResponseEntity<List<BookingResponseDTO>> findAll() {
-        return super.findAll();
+    public ResponseEntity<List<BookingResponseDTO>> findAll(@RequestParam(required = false) Long after,
+                                                            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return super.findAll(after, limit);
     }
 
     @Override
@@ -75,6 +118,7 @@ public class BookingController extends BaseControllerImpl<Booking, BookingReques
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Dados inválidos (datas inválidas, value <= 0, place não existe)"),
             @ApiResponse(responseCode = "404", description = "Agendamento não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Espaço já reservado no período"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     @SecurityRequirement(name = "bearer-jwt")
@@ -95,6 +139,123 @@ public class BookingController extends BaseControllerImpl<Booking, BookingReques
         return super.delete(id);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Criar agendamentos em lote", description = "Cria vários agendamentos com inserts em lote. Itens inválidos ou em conflito são reportados pelo índice sem abortar os demais")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; veja created e errors",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingBatchResponseDTO.class))),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @SecurityRequirement(name = "bearer-jwt")
+    public ResponseEntity<BookingBatchResponseDTO> createBatch(@RequestBody List<BookingRequestDTO> dtoRequests) {
+        BookingBatchService.Result result = bookingBatchService.createAll(dtoRequests);
+        List<BookingResponseDTO> created = result.created().stream().map(this::toResponseDTO).toList();
+        return ResponseEntity.ok(new BookingBatchResponseDTO(created, result.errors()));
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Exportar agendamentos", description = "Transmite todos os agendamentos como JSON delimitado por linha (NDJSON), em memória constante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @SecurityRequirement(name = "bearer-jwt")
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = ndjsonWriter.writeValues(out)) {
+                bookingExportService.forEachBooking(booking -> {
+                    try {
+                        writer.write(toResponseDTO(booking));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Totais de agendamentos", description = "Quantidade e soma de valor agrupadas por groupBy (place, package, status, month; separados por vírgula). Sem groupBy, devolve o total geral")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Totais calculados",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingStatsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "groupBy inválido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @SecurityRequirement(name = "bearer-jwt")
+    public ResponseEntity<List<BookingStatsDTO>> stats(@RequestParam(required = false) List<String> groupBy) {
+        return ResponseEntity.ok(bookingStatsService.stats(groupBy));
+    }
+
+    @GetMapping("/analytics/occupancy-by-weekday")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Ocupação por dia da semana", description = "Quantidade de agendamentos e horas reservadas por dia da semana, calculadas sobre o snapshot em memória. Filtros opcionais: placeId, período do início (from/to) e status (padrão PENDING e CONFIRMED)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ocupação calculada",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingWeekdayOccupancyDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Período inválido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @SecurityRequirement(name = "bearer-jwt")
+    public ResponseEntity<List<BookingWeekdayOccupancyDTO>> occupancyByWeekday(
+            @RequestParam(required = false) Long placeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Set<BookingStatus> status) {
+        return ResponseEntity.ok(bookingAnalytics.occupancyByWeekday(placeId, from, to, status));
+    }
+
+    @GetMapping("/analytics/average-ticket")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Ticket médio por pacote", description = "Quantidade, valor total e valor médio dos agendamentos por pacote, calculados sobre o snapshot em memória. Filtros opcionais: placeId, período do início (from/to) e status (padrão PENDING e CONFIRMED)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ticket médio calculado",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingPackageTicketDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Período inválido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @SecurityRequirement(name = "bearer-jwt")
+    public ResponseEntity<List<BookingPackageTicketDTO>> averageTicket(
+            @RequestParam(required = false) Long placeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Set<BookingStatus> status) {
+        return ResponseEntity.ok(bookingAnalytics.averageTicketByPackage(placeId, from, to, status));
+    }
+
+    @PatchMapping("/{id}/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Cancelar agendamento", description = "Cancela o agendamento e libera o horário do espaço")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Agendamento cancelado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Agendamento não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @SecurityRequirement(name = "bearer-jwt")
+    public ResponseEntity<BookingResponseDTO> cancel(@PathVariable Long id) {
+        return ResponseEntity.ok(toResponseDTO(bookingService.cancel(id)));
+    }
+
+    @PatchMapping("/{id}/confirm")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Confirmar agendamento", description = "Confirma um agendamento pendente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Agendamento confirmado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Agendamento não está pendente"),
+            @ApiResponse(responseCode = "404", description = "Agendamento não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @SecurityRequirement(name = "bearer-jwt")
+    public ResponseEntity<BookingResponseDTO> confirm(@PathVariable Long id) {
+        return ResponseEntity.ok(toResponseDTO(bookingService.confirm(id)));
+    }
+
     @Override
     protected BookingResponseDTO toResponseDTO(Booking booking) {
         return new BookingResponseDTO(
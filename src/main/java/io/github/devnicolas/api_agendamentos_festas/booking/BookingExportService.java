@@ -0,0 +1,43 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Percorre todas as reservas com um cursor do banco (fetch size fixo), soltando
+ * cada entidade do contexto de persistência depois de consumida. A memória
+ * usada não cresce com o tamanho da tabela.
+ */
+@Service
+public class BookingExportService {
+
+  private final BookingRepository bookingRepository;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+
+  public BookingExportService(BookingRepository bookingRepository,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager) {
+    this.bookingRepository = bookingRepository;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  // O cursor do Postgres só respeita o fetch size dentro de uma transação
+  public void forEachBooking(Consumer<Booking> consumer) {
+    transactionTemplate.executeWithoutResult(status -> {
+      try (Stream<Booking> bookings = bookingRepository.streamAllByOrderByIdAsc()) {
+        bookings.forEach(booking -> {
+          consumer.accept(booking);
+          entityManager.detach(booking);
+        });
+      }
+    });
+  }
+}
@@ -1,8 +1,100 @@
 package io.github.devnicolas.api_agendamentos_festas.booking;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.github.devnicolas.api_agendamentos_festas.booking.availability.BookingSlot;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.repositories.BaseRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends BaseRepository<Booking, Long> {
+
+  String VIEW_SELECT = """
+    select new io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingResponseDTO(
+      b.id, b.place.id, b.clientName, b.bookingStatus, b.value, b.partyPackage,
+      b.eventDate, b.dateEnd, b.createdAt)
+    from Booking b
+    """;
+
+  @Query(VIEW_SELECT + "where b.id = :id")
+  Optional<BookingResponseDTO> findViewById(@Param("id") Long id);
+
+  @Query(VIEW_SELECT + "order by b.id")
+  List<BookingResponseDTO> findViewPage(Limit limit);
+
+  @Query(VIEW_SELECT + "where b.id > :after order by b.id")
+  List<BookingResponseDTO> findViewPageAfter(@Param("after") Long after, Limit limit);
+
+  @Query("""
+    select new io.github.devnicolas.api_agendamentos_festas.booking.availability.BookingSlot(
+      b.id, b.place.id, b.eventDate, b.dateEnd)
+    from Booking b
+    where b.dateEnd > :after and b.bookingStatus in :statuses
+    """)
+  List<BookingSlot> findSlotsEndingAfter(@Param("after") LocalDateTime after,
+                                         @Param("statuses") Collection<BookingStatus> statuses);
+
+  // Mesmo predicado de ex_booking_place_period: o índice GiST resolve espaço + período
+  @Query(value = """
+    select exists (
+      select 1 from booking b
+      where b.place_id = :placeId
+        and b.booking_status not in ('CANCELLED', 'EXPIRED')
+        and b.period && tsrange(:from, :to)
+        and b.id <> :excludedId)
+    """, nativeQuery = true)
+  boolean existsActiveOverlap(@Param("placeId") Long placeId,
+                              @Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to,
+                              @Param("excludedId") Long excludedId);
+
+  @Query("select b.place.id from Booking b where b.id = :id")
+  Optional<Long> findPlaceIdById(@Param("id") Long id);
+
+  /**
+   * Expira até :chunkSize reservas PENDING com date_end anterior a :now e
+   * devolve os ids alterados. SKIP LOCKED deixa outras instâncias pegarem os
+   * próximos lotes sem esperar.
+   */
+  @Query(value = """
+    update booking set booking_status = 'EXPIRED'
+    where id in (
+      select id from booking
+      where booking_status = 'PENDING' and date_end < :now
+      order by date_end, id
+      limit :chunkSize
+      for update skip locked)
+    returning id
+    """, nativeQuery = true)
+  List<Long> expirePendingEndedBefore(@Param("now") LocalDateTime now, @Param("chunkSize") int chunkSize);
+
+  /**
+   * Expira as reservas informadas que ainda estão PENDING e cujo date_end já
+   * passou (mesma regra de Booking.expireIfPastEndDate).
+   */
+  @Query(value = """
+    update booking set booking_status = 'EXPIRED'
+    where id in (:ids) and booking_status = 'PENDING' and date_end < :now
+    returning id
+    """, nativeQuery = true)
+  List<Long> expirePendingByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select b from Booking b order by b.id")
+  Stream<Booking> streamAllByOrderByIdAsc();
 }
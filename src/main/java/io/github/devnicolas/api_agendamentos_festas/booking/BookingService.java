@@ -1,31 +1,112 @@
 package io.github.devnicolas.api_agendamentos_festas.booking;
 
+import io.github.devnicolas.api_agendamentos_festas.booking.availability.AvailabilityIndex;
 import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingRequestDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.exceptions.BookingConflictException;
+import io.github.devnicolas.api_agendamentos_festas.booking.lock.PlaceLock;
+import io.github.devnicolas.api_agendamentos_festas.exception.ResourceNotFoundException;
 import io.github.devnicolas.api_agendamentos_festas.interfaces.services.BaseServiceImpl;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.CrudMetrics;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.ViewCache;
 import io.github.devnicolas.api_agendamentos_festas.place.Place;
 import io.github.devnicolas.api_agendamentos_festas.place.PlaceRepository;
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
-public class BookingService extends BaseServiceImpl<Booking, BookingRequestDTO, Long> {
+public class BookingService extends BaseServiceImpl<Booking, BookingRequestDTO, BookingResponseDTO, Long> {
 
-  private final PlaceRepository placeRepository;
+  // SQLSTATE do Postgres para violação de constraint de exclusão (ex_booking_place_period)
+  private static final String EXCLUSION_VIOLATION = "23P01";
 
-  public BookingService(BookingRepository bookingRepository, PlaceRepository placeRepository) {
-    super(bookingRepository);
+  private final BookingRepository bookingRepository;
+  private final PlaceRepository placeRepository;
+  private final ViewCache<Long, PlaceResponseDTO> placeViewCache;
+  private final AvailabilityIndex availabilityIndex;
+  private final PlaceLock placeLock;
+  private final BookingChanges bookingChanges;
+
+  public BookingService(BookingRepository bookingRepository,
+                        PlaceRepository placeRepository,
+                        ViewCache<Long, PlaceResponseDTO> placeViewCache,
+                        ViewCache<Long, BookingResponseDTO> bookingViewCache,
+                        AvailabilityIndex availabilityIndex,
+                        PlaceLock placeLock,
+                        BookingChanges bookingChanges,
+                        MeterRegistry meterRegistry) {
+    super(bookingRepository, bookingViewCache, CrudMetrics.of("booking", meterRegistry));
+    this.bookingRepository = bookingRepository;
     this.placeRepository = placeRepository;
+    this.placeViewCache = placeViewCache;
+    this.availabilityIndex = availabilityIndex;
+    this.placeLock = placeLock;
+    this.bookingChanges = bookingChanges;
   }
 
+  // Checagem de disponibilidade e insert acontecem sob o lock do espaço.
+  // A tradução de conflito fica por fora porque no modo advisory o commit acontece no lock.
   @Override
-  protected Booking toEntity(BookingRequestDTO dto) {
+  protected Booking doCreate(BookingRequestDTO dtoRequest) {
+    return translatingConflicts(() -> placeLock.execute(List.of(dtoRequest.placeId()), () -> {
+      Booking booking = super.doCreate(dtoRequest);
+      bookingChanges.saved(booking);
+      return booking;
+    }));
+  }
 
-    Place place = placeRepository.findById(dto.placeId())
-      .orElseThrow(() -> new RuntimeException("Espaço não encontrado"));
+  // Só o espaço de destino precisa de lock: sair de um espaço nunca gera conflito
+  @Override
+  protected Booking doUpdate(Long id, BookingRequestDTO dto) {
+    Long targetPlaceId = dto.placeId() != null
+      ? dto.placeId()
+      : bookingRepository.findPlaceIdById(id)
+        .orElseThrow(() -> new ResourceNotFoundException("Recurso não encontrado com o ID: " + id));
+
+    return translatingConflicts(() -> placeLock.execute(List.of(targetPlaceId), () -> {
+      Booking booking = super.doUpdate(id, dto);
+      bookingChanges.saved(booking);
+      return booking;
+    }));
+  }
 
+  @Override
+  protected void doDelete(Long id) {
+    super.doDelete(id);
+    bookingChanges.removed(id);
+  }
+
+  public Booking cancel(Long id) {
+    return metrics.record("cancel", () -> {
+      Booking booking = findExisting(id);
+      booking.cancel();
+      return saveStatusChange(id, booking);
+    });
+  }
 
-    return new Booking(
+  public Booking confirm(Long id) {
+    return metrics.record("confirm", () -> {
+      Booking booking = findExisting(id);
+      booking.confirm();
+      return saveStatusChange(id, booking);
+    });
+  }
+
+  @Override
+  protected Booking toEntity(BookingRequestDTO dto) {
+
+    Place place = placeReference(dto.placeId());
+
+    Booking booking = new Booking(
       place,
       dto.clientName(),
       dto.eventDate(),
@@ -34,15 +115,15 @@ public class BookingService extends BaseServiceImpl<Booking, BookingRequestDTO,
       dto.dateEnd()
     );
 
+    ensureAvailable(dto.placeId(), booking);
+    return booking;
   }
 
   @Override
   protected void updateEntity(Booking booking, BookingRequestDTO dto) {
 
     if (dto.placeId() != null) {
-      Place place = placeRepository.findById(dto.placeId())
-        .orElseThrow(() -> new RuntimeException("Espaço não encontrado"));
-      booking.changePlace(place);
+      booking.changePlace(placeReference(dto.placeId()));
     }
 
     if (dto.clientName() != null) booking.changeClientName(dto.clientName());
@@ -62,6 +143,66 @@ public class BookingService extends BaseServiceImpl<Booking, BookingRequestDTO,
 
       booking.reschedule(newEventDate, newDateEnd);
     }
+
+    Long placeId = dto.placeId() != null ? dto.placeId() : booking.getPlace().getId();
+    ensureAvailable(placeId, booking);
+  }
+
+  @Override
+  protected Optional<BookingResponseDTO> loadView(Long id) {
+    return bookingRepository.findViewById(id);
+  }
+
+  @Override
+  protected List<BookingResponseDTO> loadViewPage(Long after, Limit limit) {
+    return after == null
+      ? bookingRepository.findViewPage(limit)
+      : bookingRepository.findViewPageAfter(after, limit);
+  }
+
+  @Override
+  protected Long viewId(BookingResponseDTO view) {
+    return view.id();
+  }
+
+  private void ensureAvailable(Long placeId, Booking booking) {
+    if (!AvailabilityIndex.ACTIVE_STATUSES.contains(booking.getBookingStatus())) {
+      return;
+    }
+    if (availabilityIndex.hasConflict(placeId, booking.getEventDate(), booking.getDateEnd(), booking.getId())) {
+      throw new BookingConflictException("Espaço já reservado no período informado.");
+    }
+  }
+
+  private Booking translatingConflicts(Supplier<Booking> write) {
+    try {
+      return write.get();
+    } catch (DataIntegrityViolationException ex) {
+      if (ex.getMostSpecificCause() instanceof SQLException sqlException
+        && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+        throw new BookingConflictException("Espaço já reservado no período informado.");
+      }
+      throw ex;
+    }
+  }
+
+  // Existência vem do cache; a FK só precisa de uma referência, sem SELECT do espaço
+  private Place placeReference(Long placeId) {
+    placeViewCache.get(placeId, placeRepository::findViewById)
+      .orElseThrow(() -> new RuntimeException("Espaço não encontrado"));
+    return placeRepository.getReferenceById(placeId);
+  }
+
+  private Booking saveStatusChange(Long id, Booking booking) {
+    Booking saved = repository.save(booking);
+    evictView(id);
+    bookingChanges.saved(saved);
+    return saved;
+  }
+
+  private Booking findExisting(Long id) {
+    return repository.findById(id)
+      .orElseThrow(() -> new ResourceNotFoundException("Recurso não encontrado com o ID: " + id));
   }
 
 }
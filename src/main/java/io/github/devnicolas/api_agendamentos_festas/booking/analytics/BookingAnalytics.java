@@ -0,0 +1,321 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.analytics;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Booking;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingChangeListener;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.booking.availability.AvailabilityIndex;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingPackageTicketDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingWeekdayOccupancyDTO;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot colunar de todas as reservas para os painéis de administração
+ * (ocupação por dia da semana, ticket médio por pacote). As agregações varrem
+ * arrays primitivos em memória, sem Postgres e sem montar entidades.
+ * <p>
+ * Carregado na subida e atualizado pelos mesmos eventos que mantêm o
+ * {@link AvailabilityIndex} (via {@link BookingChangeListener}). Uma recarga completa a cada
+ * booking.analytics.reload-interval recupera o que outras instâncias gravaram.
+ */
+@Component
+public class BookingAnalytics implements BookingChangeListener {
+
+  private static final String SELECT_ALL = """
+    SELECT id, place_id, event_date, date_end, booking_status, party_package, value
+    FROM booking
+    """;
+
+  private static final int FETCH_SIZE = 1000;
+  private static final int DAYS_IN_WEEK = 7;
+  private static final long SECONDS_PER_DAY = 86_400;
+  private static final BigDecimal SECONDS_PER_HOUR = BigDecimal.valueOf(3_600);
+  private static final PartyPackageEnum[] PACKAGES = PartyPackageEnum.values();
+  private static final byte EXPIRED = (byte) BookingStatus.EXPIRED.ordinal();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Timer reloadTimer;
+  private final Object reloadMonitor = new Object();
+  private final Object writeMonitor = new Object();
+  private volatile BookingColumns columns = new BookingColumns();
+
+  // Não nulo enquanto uma recarga lê o banco: as mudanças são reaplicadas no snapshot novo
+  private List<Consumer<BookingColumns>> changesDuringReload;
+
+  public BookingAnalytics(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.reloadTimer = Timer.builder("booking.analytics.reload")
+      .description("Duração da recarga completa do snapshot de reservas")
+      .register(meterRegistry);
+    Gauge.builder("booking.analytics.rows", this, analytics -> analytics.columns.size())
+      .description("Reservas no snapshot colunar")
+      .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void load() {
+    reload();
+  }
+
+  @Scheduled(fixedDelayString = "${booking.analytics.reload-interval:PT30M}",
+    initialDelayString = "${booking.analytics.reload-interval:PT30M}")
+  public void reload() {
+    synchronized (reloadMonitor) {
+      synchronized (writeMonitor) {
+        changesDuringReload = new ArrayList<>();
+      }
+      BookingColumns fresh;
+      try {
+        fresh = reloadTimer.record(this::readAll);
+      } catch (RuntimeException ex) {
+        synchronized (writeMonitor) {
+          changesDuringReload = null;
+        }
+        throw ex;
+      }
+      synchronized (writeMonitor) {
+        changesDuringReload.forEach(change -> change.accept(fresh));
+        changesDuringReload = null;
+        columns = fresh;
+      }
+    }
+  }
+
+  /**
+   * Grava o estado atual da reserva no snapshot. Dentro de uma transação, a
+   * alteração só é aplicada após o commit.
+   */
+  public void register(Booking booking) {
+    if (booking.getId() == null) {
+      return;
+    }
+    long id = booking.getId();
+    long placeId = booking.getPlace().getId();
+    long start = toEpochSecond(booking.getEventDate());
+    long end = toEpochSecond(booking.getDateEnd());
+    byte status = (byte) booking.getBookingStatus().ordinal();
+    byte partyPackage = (byte) booking.getPartyPackage().ordinal();
+    long valueInCents = toCents(booking.getValue());
+    afterCommit(() -> apply(target -> target.upsert(id, placeId, start, end, status, partyPackage, valueInCents)));
+  }
+
+  public void remove(Long bookingId) {
+    afterCommit(() -> apply(target -> target.remove(bookingId)));
+  }
+
+  // Expiração em lote por SQL nativo: só o status muda
+  public void markExpired(Long bookingId) {
+    afterCommit(() -> apply(target -> target.changeStatus(bookingId, EXPIRED)));
+  }
+
+  @Override
+  public void saved(Booking booking) {
+    register(booking);
+  }
+
+  @Override
+  public void removed(Long bookingId) {
+    remove(bookingId);
+  }
+
+  @Override
+  public void expired(Long bookingId) {
+    markExpired(bookingId);
+  }
+
+  /**
+   * Reservas e horas reservadas por dia da semana, de segunda a domingo.
+   * Sem statuses, considera PENDING e CONFIRMED.
+   */
+  public List<BookingWeekdayOccupancyDTO> occupancyByWeekday(Long placeId, LocalDate from, LocalDate to,
+                                                             Set<BookingStatus> statuses) {
+    BookingColumns snapshot = columns;
+    RowFilter filter = RowFilter.of(snapshot, placeId, from, to, statuses);
+
+    long[] totals = filter == null ? new long[2 * DAYS_IN_WEEK] : snapshot.scan(2 * DAYS_IN_WEEK, (rows, row, acc) -> {
+      if (!filter.matches(rows, row)) {
+        return;
+      }
+      long start = rows.start(row);
+      long end = rows.end(row);
+      acc[weekday(start)]++;
+      while (start < end) {
+        long until = Math.min(end, (Math.floorDiv(start, SECONDS_PER_DAY) + 1) * SECONDS_PER_DAY);
+        acc[DAYS_IN_WEEK + weekday(start)] += until - start;
+        start = until;
+      }
+    });
+
+    List<BookingWeekdayOccupancyDTO> result = new ArrayList<>(DAYS_IN_WEEK);
+    for (int day = 0; day < DAYS_IN_WEEK; day++) {
+      result.add(new BookingWeekdayOccupancyDTO(
+        DayOfWeek.of(day + 1),
+        totals[day],
+        BigDecimal.valueOf(totals[DAYS_IN_WEEK + day]).divide(SECONDS_PER_HOUR, 2, RoundingMode.HALF_UP)
+      ));
+    }
+    return result;
+  }
+
+  /**
+   * Quantidade, total e ticket médio por pacote; pacotes sem reservas ficam de
+   * fora. Sem statuses, considera PENDING e CONFIRMED.
+   */
+  public List<BookingPackageTicketDTO> averageTicketByPackage(Long placeId, LocalDate from, LocalDate to,
+                                                              Set<BookingStatus> statuses) {
+    BookingColumns snapshot = columns;
+    RowFilter filter = RowFilter.of(snapshot, placeId, from, to, statuses);
+    int packages = PACKAGES.length;
+
+    long[] totals = filter == null ? new long[2 * packages] : snapshot.scan(2 * packages, (rows, row, acc) -> {
+      if (!filter.matches(rows, row)) {
+        return;
+      }
+      int partyPackage = rows.partyPackage(row);
+      acc[partyPackage]++;
+      acc[packages + partyPackage] += rows.valueInCents(row);
+    });
+
+    List<BookingPackageTicketDTO> result = new ArrayList<>();
+    for (int p = 0; p < packages; p++) {
+      long count = totals[p];
+      if (count == 0) {
+        continue;
+      }
+      BigDecimal total = BigDecimal.valueOf(totals[packages + p], 2);
+      result.add(new BookingPackageTicketDTO(
+        PACKAGES[p],
+        count,
+        total,
+        total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP)
+      ));
+    }
+    return result;
+  }
+
+  BookingColumns columns() {
+    return columns;
+  }
+
+  private BookingColumns readAll() {
+    BookingColumns fresh = new BookingColumns();
+    RowCallbackHandler handler = rs -> fresh.upsert(
+      rs.getLong("id"),
+      rs.getLong("place_id"),
+      toEpochSecond(rs.getObject("event_date", LocalDateTime.class)),
+      toEpochSecond(rs.getObject("date_end", LocalDateTime.class)),
+      (byte) BookingStatus.valueOf(rs.getString("booking_status")).ordinal(),
+      (byte) PartyPackageEnum.valueOf(rs.getString("party_package")).ordinal(),
+      toCents(rs.getBigDecimal("value"))
+    );
+    // O cursor do Postgres só respeita o fetch size dentro de uma transação
+    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(SELECT_ALL);
+      statement.setFetchSize(FETCH_SIZE);
+      return statement;
+    }, handler));
+    return fresh;
+  }
+
+  private void apply(Consumer<BookingColumns> change) {
+    synchronized (writeMonitor) {
+      change.accept(columns);
+      if (changesDuringReload != null) {
+        changesDuringReload.add(change);
+      }
+    }
+  }
+
+  // 1970-01-01 foi quinta-feira; 0 = segunda
+  private static int weekday(long epochSecond) {
+    return (int) Math.floorMod(Math.floorDiv(epochSecond, SECONDS_PER_DAY) + 3, DAYS_IN_WEEK);
+  }
+
+  private static long toEpochSecond(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  private static long toCents(BigDecimal value) {
+    return value.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private record RowFilter(int placeIndex, long from, long to, int statusMask) {
+
+    private static final int ANY_PLACE = -1;
+
+    // null quando o espaço não tem nenhuma reserva no snapshot
+    static RowFilter of(BookingColumns snapshot, Long placeId, LocalDate from, LocalDate to,
+                        Set<BookingStatus> statuses) {
+      if (from != null && to != null && from.isAfter(to)) {
+        throw new ValidationException(List.of("from deve ser anterior ou igual a to."));
+      }
+      int placeIndex = ANY_PLACE;
+      if (placeId != null) {
+        placeIndex = snapshot.placeIndexOf(placeId);
+        if (placeIndex < 0) {
+          return null;
+        }
+      }
+      int statusMask = 0;
+      for (BookingStatus status : statuses == null || statuses.isEmpty() ? AvailabilityIndex.ACTIVE_STATUSES : statuses) {
+        statusMask |= 1 << status.ordinal();
+      }
+      return new RowFilter(
+        placeIndex,
+        from == null ? Long.MIN_VALUE : toEpochSecond(from.atStartOfDay()),
+        to == null ? Long.MAX_VALUE : toEpochSecond(to.plusDays(1).atStartOfDay()),
+        statusMask
+      );
+    }
+
+    boolean matches(BookingColumns.Rows rows, int row) {
+      long start = rows.start(row);
+      return (statusMask & (1 << rows.status(row))) != 0
+        && (placeIndex == ANY_PLACE || rows.place(row) == placeIndex)
+        && start >= from
+        && start < to;
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.analytics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Reservas em colunas de arrays primitivos: início e fim em epoch-second,
+ * índice do espaço, ordinais de status e pacote e valor em centavos. Uma linha
+ * por reserva; a remoção move a última linha para o buraco. As consultas
+ * varrem as colunas sob o read lock, em paralelo a partir de
+ * PARALLEL_THRESHOLD linhas.
+ */
+public class BookingColumns {
+
+  static final int PARALLEL_THRESHOLD = 10_000;
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Integer> rowById = new HashMap<>();
+  private final Map<Long, Integer> placeIndexById = new HashMap<>();
+
+  private long[] ids = new long[INITIAL_CAPACITY];
+  private long[] starts = new long[INITIAL_CAPACITY];
+  private long[] ends = new long[INITIAL_CAPACITY];
+  private int[] places = new int[INITIAL_CAPACITY];
+  private byte[] statuses = new byte[INITIAL_CAPACITY];
+  private byte[] packages = new byte[INITIAL_CAPACITY];
+  private long[] valuesInCents = new long[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * Insere a reserva ou sobrescreve a linha que ela já ocupa.
+   */
+  public void upsert(long id, long placeId, long start, long end, byte status, byte partyPackage, long valueInCents) {
+    lock.writeLock().lock();
+    try {
+      Integer existing = rowById.get(id);
+      int row;
+      if (existing != null) {
+        row = existing;
+      } else {
+        ensureCapacity(size + 1);
+        row = size++;
+        rowById.put(id, row);
+      }
+      ids[row] = id;
+      starts[row] = start;
+      ends[row] = end;
+      places[row] = placeIndex(placeId);
+      statuses[row] = status;
+      packages[row] = partyPackage;
+      valuesInCents[row] = valueInCents;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void changeStatus(long id, byte status) {
+    lock.writeLock().lock();
+    try {
+      Integer row = rowById.get(id);
+      if (row != null) {
+        statuses[row] = status;
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      Integer row = rowById.remove(id);
+      if (row == null) {
+        return;
+      }
+      int last = --size;
+      if (row != last) {
+        ids[row] = ids[last];
+        starts[row] = starts[last];
+        ends[row] = ends[last];
+        places[row] = places[last];
+        statuses[row] = statuses[last];
+        packages[row] = packages[last];
+        valuesInCents[row] = valuesInCents[last];
+        rowById.put(ids[row], row);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Varre todas as linhas acumulando num long[] de width posições por thread;
+   * os parciais são somados posição a posição no final.
+   */
+  public long[] scan(int width, RowAccumulator accumulator) {
+    lock.readLock().lock();
+    try {
+      Rows rows = new Rows(this);
+      IntStream range = IntStream.range(0, size);
+      if (size >= PARALLEL_THRESHOLD) {
+        range = range.parallel();
+      }
+      return range.collect(
+        () -> new long[width],
+        (acc, row) -> accumulator.accept(rows, row, acc),
+        (left, right) -> {
+          for (int i = 0; i < width; i++) {
+            left[i] += right[i];
+          }
+        });
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Índice do espaço nas colunas, ou -1 se nenhuma reserva dele foi vista.
+   */
+  public int placeIndexOf(long placeId) {
+    lock.readLock().lock();
+    try {
+      return placeIndexById.getOrDefault(placeId, -1);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private int placeIndex(long placeId) {
+    return placeIndexById.computeIfAbsent(placeId, id -> placeIndexById.size());
+  }
+
+  private void ensureCapacity(int required) {
+    if (required <= ids.length) {
+      return;
+    }
+    int capacity = Math.max(required, ids.length + (ids.length >> 1));
+    ids = Arrays.copyOf(ids, capacity);
+    starts = Arrays.copyOf(starts, capacity);
+    ends = Arrays.copyOf(ends, capacity);
+    places = Arrays.copyOf(places, capacity);
+    statuses = Arrays.copyOf(statuses, capacity);
+    packages = Arrays.copyOf(packages, capacity);
+    valuesInCents = Arrays.copyOf(valuesInCents, capacity);
+  }
+
+  @FunctionalInterface
+  public interface RowAccumulator {
+    void accept(Rows rows, int row, long[] acc);
+  }
+
+  /**
+   * Visão somente leitura das colunas durante um scan. Guarda as referências
+   * dos arrays do momento em que o scan começou.
+   */
+  public static final class Rows {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] places;
+    private final byte[] statuses;
+    private final byte[] packages;
+    private final long[] valuesInCents;
+
+    private Rows(BookingColumns columns) {
+      this.starts = columns.starts;
+      this.ends = columns.ends;
+      this.places = columns.places;
+      this.statuses = columns.statuses;
+      this.packages = columns.packages;
+      this.valuesInCents = columns.valuesInCents;
+    }
+
+    public long start(int row) {
+      return starts[row];
+    }
+
+    public long end(int row) {
+      return ends[row];
+    }
+
+    public int place(int row) {
+      return places[row];
+    }
+
+    public byte status(int row) {
+      return statuses[row];
+    }
+
+    public byte partyPackage(int row) {
+      return packages[row];
+    }
+
+    public long valueInCents(int row) {
+      return valuesInCents[row];
+    }
+  }
+}
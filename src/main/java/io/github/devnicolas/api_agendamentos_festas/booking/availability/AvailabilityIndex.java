@@ -0,0 +1,150 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.availability;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Booking;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingChangeListener;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingRepository;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice em memória das reservas ativas (PENDING e CONFIRMED), com uma árvore
+ * de intervalos por espaço. Permite checar conflito de horário sem ir ao banco.
+ * <p>
+ * Com booking.lock.mode=advisory há várias instâncias, e cada JVM só vê as
+ * próprias escritas: um cancelamento em outro nó deixaria o horário preso aqui.
+ * Nesse modo o índice fica vazio e a checagem vai ao banco, dentro da
+ * transação que segura o advisory lock do espaço.
+ */
+@Component
+public class AvailabilityIndex implements BookingChangeListener {
+
+  public static final Set<BookingStatus> ACTIVE_STATUSES = EnumSet.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+
+  private final BookingRepository bookingRepository;
+  private final boolean checkDatabase;
+  private final Map<Long, IntervalTree> treesByPlace = new ConcurrentHashMap<>();
+  private final Map<Long, BookingSlot> slotsByBooking = new ConcurrentHashMap<>();
+
+  public AvailabilityIndex(BookingRepository bookingRepository,
+                           @Value("${booking.lock.mode:local}") String lockMode) {
+    this.bookingRepository = bookingRepository;
+    this.checkDatabase = "advisory".equals(lockMode);
+  }
+
+  @PostConstruct
+  public void load() {
+    if (checkDatabase) {
+      return;
+    }
+    bookingRepository.findSlotsEndingAfter(LocalDateTime.now(), ACTIVE_STATUSES)
+      .forEach(this::put);
+  }
+
+  public boolean hasConflict(Long placeId, LocalDateTime eventDate, LocalDateTime dateEnd, Long ignoredBookingId) {
+    if (checkDatabase) {
+      // ids vêm da sequence a partir de 1; 0 não exclui nenhuma reserva
+      return bookingRepository.existsActiveOverlap(placeId, eventDate, dateEnd,
+        ignoredBookingId == null ? 0L : ignoredBookingId);
+    }
+    IntervalTree tree = treesByPlace.get(placeId);
+    if (tree == null) {
+      return false;
+    }
+    synchronized (tree) {
+      return tree.overlaps(toKey(eventDate), toKey(dateEnd), ignoredBookingId);
+    }
+  }
+
+  /**
+   * Atualiza o índice com o estado atual da reserva. Dentro de uma transação,
+   * a alteração só é aplicada após o commit.
+   */
+  public void register(Booking booking) {
+    if (checkDatabase || booking.getId() == null) {
+      return;
+    }
+    if (!ACTIVE_STATUSES.contains(booking.getBookingStatus())) {
+      release(booking.getId());
+      return;
+    }
+    BookingSlot slot = new BookingSlot(
+      booking.getId(),
+      booking.getPlace().getId(),
+      booking.getEventDate(),
+      booking.getDateEnd()
+    );
+    afterCommit(() -> put(slot));
+  }
+
+  public void release(Long bookingId) {
+    if (checkDatabase) {
+      return;
+    }
+    afterCommit(() -> remove(bookingId));
+  }
+
+  @Override
+  public void saved(Booking booking) {
+    register(booking);
+  }
+
+  @Override
+  public void removed(Long bookingId) {
+    release(bookingId);
+  }
+
+  @Override
+  public void expired(Long bookingId) {
+    release(bookingId);
+  }
+
+  private void put(BookingSlot slot) {
+    remove(slot.bookingId());
+    IntervalTree tree = treesByPlace.computeIfAbsent(slot.placeId(), id -> new IntervalTree());
+    synchronized (tree) {
+      tree.insert(slot.bookingId(), toKey(slot.eventDate()), toKey(slot.dateEnd()));
+    }
+    slotsByBooking.put(slot.bookingId(), slot);
+  }
+
+  private void remove(Long bookingId) {
+    BookingSlot previous = slotsByBooking.remove(bookingId);
+    if (previous == null) {
+      return;
+    }
+    IntervalTree tree = treesByPlace.get(previous.placeId());
+    if (tree != null) {
+      synchronized (tree) {
+        tree.remove(previous.bookingId(), toKey(previous.eventDate()));
+      }
+    }
+  }
+
+  private static long toKey(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,11 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.availability;
+
+import java.time.LocalDateTime;
+
+public record BookingSlot(
+  Long bookingId,
+  Long placeId,
+  LocalDateTime eventDate,
+  LocalDateTime dateEnd
+) {
+}
@@ -0,0 +1,173 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.availability;
+
+/**
+ * Árvore de intervalos (AVL aumentada com o maior fim da subárvore).
+ *
+ * Intervalos são semiabertos [start, end): uma reserva que termina às 18h não
+ * conflita com outra que começa às 18h. Inserção, remoção e busca de
+ * sobreposição custam O(log n). Não é thread-safe; quem usa sincroniza.
+ */
+public class IntervalTree {
+
+  private Node root;
+  private int size;
+
+  public void insert(long id, long start, long end) {
+    root = insert(root, id, start, end);
+    size++;
+  }
+
+  public boolean remove(long id, long start) {
+    int before = size;
+    root = remove(root, id, start);
+    return size < before;
+  }
+
+  /**
+   * Indica se existe algum intervalo sobreposto a [start, end), ignorando o
+   * intervalo com o id informado (usado no reagendamento da própria reserva).
+   */
+  public boolean overlaps(long start, long end, Long ignoredId) {
+    return overlaps(root, start, end, ignoredId);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  private static boolean overlaps(Node node, long start, long end, Long ignoredId) {
+    if (node == null || node.maxEnd <= start) {
+      return false;
+    }
+    if (node.start < end && node.end > start && (ignoredId == null || node.id != ignoredId)) {
+      return true;
+    }
+    if (overlaps(node.left, start, end, ignoredId)) {
+      return true;
+    }
+    return node.start < end && overlaps(node.right, start, end, ignoredId);
+  }
+
+  private static int compare(long startA, long idA, long startB, long idB) {
+    int byStart = Long.compare(startA, startB);
+    return byStart != 0 ? byStart : Long.compare(idA, idB);
+  }
+
+  private Node insert(Node node, long id, long start, long end) {
+    if (node == null) {
+      return new Node(id, start, end);
+    }
+    if (compare(start, id, node.start, node.id) < 0) {
+      node.left = insert(node.left, id, start, end);
+    } else {
+      node.right = insert(node.right, id, start, end);
+    }
+    return rebalance(node);
+  }
+
+  private Node remove(Node node, long id, long start) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = compare(start, id, node.start, node.id);
+    if (cmp < 0) {
+      node.left = remove(node.left, id, start);
+    } else if (cmp > 0) {
+      node.right = remove(node.right, id, start);
+    } else {
+      size--;
+      if (node.left == null) {
+        return node.right;
+      }
+      if (node.right == null) {
+        return node.left;
+      }
+      Node successor = node.right;
+      while (successor.left != null) {
+        successor = successor.left;
+      }
+      node.right = removeMin(node.right);
+      successor.right = node.right;
+      successor.left = node.left;
+      node = successor;
+    }
+    return rebalance(node);
+  }
+
+  private Node removeMin(Node node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    node.left = removeMin(node.left);
+    return rebalance(node);
+  }
+
+  private static int height(Node node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static void update(Node node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    long maxEnd = node.end;
+    if (node.left != null) maxEnd = Math.max(maxEnd, node.left.maxEnd);
+    if (node.right != null) maxEnd = Math.max(maxEnd, node.right.maxEnd);
+    node.maxEnd = maxEnd;
+  }
+
+  private static Node rebalance(Node node) {
+    update(node);
+    int balance = height(node.left) - height(node.right);
+    if (balance > 1) {
+      if (height(node.left.left) < height(node.left.right)) {
+        node.left = rotateLeft(node.left);
+      }
+      return rotateRight(node);
+    }
+    if (balance < -1) {
+      if (height(node.right.right) < height(node.right.left)) {
+        node.right = rotateRight(node.right);
+      }
+      return rotateLeft(node);
+    }
+    return node;
+  }
+
+  private static Node rotateRight(Node node) {
+    Node pivot = node.left;
+    node.left = pivot.right;
+    pivot.right = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private static Node rotateLeft(Node node) {
+    Node pivot = node.right;
+    node.right = pivot.left;
+    pivot.left = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private static final class Node {
+    private final long id;
+    private final long start;
+    private final long end;
+    private long maxEnd;
+    private int height = 1;
+    private Node left;
+    private Node right;
+
+    private Node(long id, long start, long end) {
+      this.id = id;
+      this.start = start;
+      this.end = end;
+      this.maxEnd = end;
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.dtos;
+
+import java.util.List;
+
+public record BookingBatchErrorDTO(
+  int index,
+  List<String> errors
+) {
+}
@@ -0,0 +1,9 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.dtos;
+
+import java.util.List;
+
+public record BookingBatchResponseDTO(
+  List<BookingResponseDTO> created,
+  List<BookingBatchErrorDTO> errors
+) {
+}
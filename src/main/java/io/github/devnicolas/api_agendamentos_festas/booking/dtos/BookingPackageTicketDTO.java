@@ -0,0 +1,13 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.dtos;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+
+import java.math.BigDecimal;
+
+public record BookingPackageTicketDTO(
+  PartyPackageEnum partyPackage,
+  long count,
+  BigDecimal totalValue,
+  BigDecimal averageValue
+) {
+}
@@ -0,0 +1,18 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.dtos;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+// Dimensões fora do groupBy vêm nulas
+public record BookingStatsDTO(
+  Long placeId,
+  PartyPackageEnum partyPackage,
+  BookingStatus bookingStatus,
+  YearMonth month,
+  long count,
+  BigDecimal totalValue
+) {
+}
@@ -0,0 +1,12 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.dtos;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+
+// Reservas que começam no dia da semana; as horas de quem vira a noite são divididas entre os dias
+public record BookingWeekdayOccupancyDTO(
+  DayOfWeek dayOfWeek,
+  long count,
+  BigDecimal bookedHours
+) {
+}
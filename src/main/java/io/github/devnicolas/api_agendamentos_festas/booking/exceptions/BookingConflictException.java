@@ -0,0 +1,7 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.exceptions;
+
+public class BookingConflictException extends RuntimeException {
+  public BookingConflictException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.expiry;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingChanges;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Move para EXPIRED as reservas PENDING cujo date_end já passou. Roda em
+ * UPDATEs de até booking.expiry.chunk-size linhas, cada um na sua transação,
+ * apoiados no índice parcial idx_booking_pending_date_end.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingExpiryJob {
+
+  private final BookingRepository bookingRepository;
+  private final BookingChanges bookingChanges;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final Counter expiredCounter;
+  private final Timer runTimer;
+  private final AtomicInteger lastRunExpired = new AtomicInteger();
+
+  public BookingExpiryJob(BookingRepository bookingRepository,
+                          BookingChanges bookingChanges,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${booking.expiry.chunk-size:1000}") int chunkSize) {
+    this.bookingRepository = bookingRepository;
+    this.bookingChanges = bookingChanges;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.expiredCounter = Counter.builder("booking.expiry.expired")
+      .description("Reservas PENDING movidas para EXPIRED")
+      .register(meterRegistry);
+    this.runTimer = Timer.builder("booking.expiry.run")
+      .description("Duração de cada execução do job de expiração")
+      .register(meterRegistry);
+    Gauge.builder("booking.expiry.last.run.expired", lastRunExpired, AtomicInteger::get)
+      .description("Reservas expiradas na última execução")
+      .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${booking.expiry.interval:PT1M}",
+    initialDelayString = "${booking.expiry.interval:PT1M}")
+  public void run() {
+    runTimer.record(() -> {
+      expirePending();
+    });
+  }
+
+  /**
+   * Expira em lotes até não sobrar nenhuma reserva vencida e devolve o total.
+   */
+  public int expirePending() {
+    LocalDateTime now = LocalDateTime.now();
+    int total = 0;
+    List<Long> expired;
+    do {
+      expired = transactionTemplate.execute(status -> bookingRepository.expirePendingEndedBefore(now, chunkSize));
+      bookingChanges.expired(expired);
+      total += expired.size();
+    } while (expired.size() == chunkSize);
+
+    expiredCounter.increment(total);
+    lastRunExpired.set(total);
+    return total;
+  }
+}
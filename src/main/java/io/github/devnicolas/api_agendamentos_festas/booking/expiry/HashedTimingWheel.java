@@ -0,0 +1,122 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.expiry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timing wheel com hash (Varghese &amp; Lauck): cada prazo cai no balde
+ * tick &amp; mask, numa lista duplamente encadeada. Agendar e cancelar custam
+ * O(1); avançar um tick só percorre o balde da vez. Prazos além de uma volta
+ * ficam no balde até o tick absoluto chegar. Não é thread-safe; quem usa
+ * sincroniza.
+ */
+public class HashedTimingWheel {
+
+  private final long tickMillis;
+  private final long originMillis;
+  private final Entry[] buckets;
+  private final int mask;
+  private final Map<Long, Entry> entries = new HashMap<>();
+  private long currentTick;
+
+  public HashedTimingWheel(long tickMillis, int wheelSize, long originMillis) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("tickMillis deve ser positivo");
+    }
+    int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+    this.tickMillis = tickMillis;
+    this.originMillis = originMillis;
+    this.buckets = new Entry[size];
+    this.mask = size - 1;
+  }
+
+  /**
+   * Agenda (ou reagenda) o id para o primeiro tick em que deadlineMillis já
+   * passou. Prazos vencidos disparam no próximo tick.
+   */
+  public void schedule(long id, long deadlineMillis) {
+    cancel(id);
+    long tick = Math.max(Math.ceilDiv(deadlineMillis - originMillis, tickMillis), currentTick + 1);
+    Entry entry = new Entry(id, tick);
+    link(entry, (int) (tick & mask));
+    entries.put(id, entry);
+  }
+
+  public boolean cancel(long id) {
+    Entry entry = entries.remove(id);
+    if (entry == null) {
+      return false;
+    }
+    unlink(entry);
+    return true;
+  }
+
+  /**
+   * Avança até nowMillis e adiciona em expired os ids vencidos. Um salto
+   * maior que a roda visita cada balde uma única vez.
+   */
+  public void advance(long nowMillis, List<Long> expired) {
+    long target = Math.floorDiv(nowMillis - originMillis, tickMillis);
+    if (target <= currentTick) {
+      return;
+    }
+    long steps = Math.min(target - currentTick, buckets.length);
+    for (long step = 1; step <= steps; step++) {
+      Entry entry = buckets[(int) ((currentTick + step) & mask)];
+      while (entry != null) {
+        Entry next = entry.next;
+        if (entry.tick <= target) {
+          unlink(entry);
+          entries.remove(entry.id);
+          expired.add(entry.id);
+        }
+        entry = next;
+      }
+    }
+    currentTick = target;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public boolean contains(long id) {
+    return entries.containsKey(id);
+  }
+
+  private void link(Entry entry, int bucket) {
+    entry.bucket = bucket;
+    entry.next = buckets[bucket];
+    if (entry.next != null) {
+      entry.next.prev = entry;
+    }
+    buckets[bucket] = entry;
+  }
+
+  private void unlink(Entry entry) {
+    if (entry.prev != null) {
+      entry.prev.next = entry.next;
+    } else {
+      buckets[entry.bucket] = entry.next;
+    }
+    if (entry.next != null) {
+      entry.next.prev = entry.prev;
+    }
+    entry.prev = null;
+    entry.next = null;
+  }
+
+  private static final class Entry {
+    private final long id;
+    private final long tick;
+    private int bucket;
+    private Entry prev;
+    private Entry next;
+
+    private Entry(long id, long tick) {
+      this.id = id;
+      this.tick = tick;
+    }
+  }
+}
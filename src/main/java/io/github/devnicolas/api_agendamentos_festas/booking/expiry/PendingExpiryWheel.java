@@ -0,0 +1,161 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.expiry;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Booking;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingChangeListener;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingChanges;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingRepository;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.github.devnicolas.api_agendamentos_festas.booking.availability.BookingSlot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expira cada reserva PENDING no seu date_end, sem varrer a tabela. Os prazos
+ * ficam numa {@link HashedTimingWheel} carregada do banco na subida; o que
+ * vence no mesmo tick é gravado em lotes de booking.expiry.wheel.batch-size.
+ * O UPDATE repete a regra de Booking.expireIfPastEndDate, então um prazo
+ * desatualizado na roda não altera nada. O BookingExpiryJob segue como rede
+ * de segurança.
+ */
+@Component
+public class PendingExpiryWheel implements BookingChangeListener {
+
+  private static final Logger log = LoggerFactory.getLogger(PendingExpiryWheel.class);
+
+  private final BookingRepository bookingRepository;
+  private final BookingChanges bookingChanges;
+  private final TransactionTemplate transactionTemplate;
+  private final HashedTimingWheel wheel;
+  private final long tickMillis;
+  private final int batchSize;
+  private final Counter expiredCounter;
+  private final Counter failureCounter;
+  private ScheduledExecutorService ticker;
+
+  public PendingExpiryWheel(BookingRepository bookingRepository,
+                            BookingChanges bookingChanges,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${booking.expiry.wheel.tick:PT1S}") Duration tick,
+                            @Value("${booking.expiry.wheel.size:4096}") int wheelSize,
+                            @Value("${booking.expiry.wheel.batch-size:100}") int batchSize) {
+    this.bookingRepository = bookingRepository;
+    this.bookingChanges = bookingChanges;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.tickMillis = tick.toMillis();
+    this.wheel = new HashedTimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+    this.batchSize = batchSize;
+    this.expiredCounter = Counter.builder("booking.expiry.wheel.expired")
+      .description("Reservas PENDING expiradas no date_end pela timing wheel")
+      .register(meterRegistry);
+    this.failureCounter = Counter.builder("booking.expiry.wheel.failures")
+      .description("Ticks e lotes da timing wheel que falharam e ficaram para o job de expiração")
+      .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    List<BookingSlot> pending = bookingRepository.findSlotsEndingAfter(
+      LocalDateTime.now(), EnumSet.of(BookingStatus.PENDING));
+    synchronized (wheel) {
+      pending.forEach(slot -> wheel.schedule(slot.bookingId(), toMillis(slot.dateEnd())));
+    }
+    ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "booking-expiry-wheel");
+      thread.setDaemon(true);
+      return thread;
+    });
+    ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (ticker != null) {
+      ticker.shutdownNow();
+    }
+  }
+
+  /**
+   * Agenda a expiração se a reserva está PENDING; caso contrário cancela.
+   */
+  public void track(Booking booking) {
+    if (booking.getId() == null) {
+      return;
+    }
+    if (booking.getBookingStatus() != BookingStatus.PENDING) {
+      forget(booking.getId());
+      return;
+    }
+    long deadline = toMillis(booking.getDateEnd());
+    synchronized (wheel) {
+      wheel.schedule(booking.getId(), deadline);
+    }
+  }
+
+  public void forget(Long bookingId) {
+    synchronized (wheel) {
+      wheel.cancel(bookingId);
+    }
+  }
+
+  @Override
+  public void saved(Booking booking) {
+    track(booking);
+  }
+
+  @Override
+  public void removed(Long bookingId) {
+    forget(bookingId);
+  }
+
+  // Qualquer exceção que escape daqui cancela o scheduleAtFixedRate e a roda para de vez
+  void tick() {
+    try {
+      List<Long> due = new ArrayList<>();
+      synchronized (wheel) {
+        wheel.advance(System.currentTimeMillis(), due);
+      }
+      for (int from = 0; from < due.size(); from += batchSize) {
+        flush(due.subList(from, Math.min(from + batchSize, due.size())));
+      }
+    } catch (RuntimeException ex) {
+      log.error("Falha no tick da timing wheel de expiração", ex);
+      failureCounter.increment();
+    }
+  }
+
+  private void flush(List<Long> ids) {
+    try {
+      List<Long> expired = transactionTemplate.execute(status ->
+        bookingRepository.expirePendingByIds(ids, LocalDateTime.now()));
+      bookingChanges.expired(expired);
+      expiredCounter.increment(expired.size());
+    } catch (RuntimeException ex) {
+      // Um lote com falha não impede os próximos; o job de expiração recolhe o que sobrou
+      log.warn("Falha ao expirar {} reservas pela timing wheel: {}", ids.size(), ex.toString());
+      failureCounter.increment();
+    }
+  }
+
+  private static long toMillis(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Lock por espaço via pg_advisory_xact_lock. A ação roda dentro de uma
+ * transação e o lock é liberado pelo próprio Postgres no commit ou rollback.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.lock.mode", havingValue = "advisory")
+public class AdvisoryPlaceLock implements PlaceLock {
+
+  private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  // Sem tag por espaço: um timer (com buckets) por venue cresceria sem limite
+  private final Timer waitTimer;
+
+  public AdvisoryPlaceLock(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.waitTimer = Timer.builder("booking.place.lock.wait")
+      .description("Tempo de espera pelo advisory lock do espaço")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public <T> T execute(Collection<Long> placeIds, Supplier<T> action) {
+    List<Long> ordered = placeIds.stream()
+      .filter(Objects::nonNull)
+      .distinct()
+      .sorted()
+      .toList();
+
+    return transactionTemplate.execute(status -> {
+      ordered.forEach(this::acquire);
+      return action.get();
+    });
+  }
+
+  private void acquire(Long placeId) {
+    long start = System.nanoTime();
+    jdbcTemplate.execute(LOCK_SQL, (PreparedStatementCallback<Boolean>) statement -> {
+      statement.setLong(1, placeId);
+      return statement.execute();
+    });
+    waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,14 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.lock;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Serializa escritas de reservas por espaço. A implementação é escolhida por
+ * booking.lock.mode: "local" (lock listrado na JVM) ou "advisory" (advisory
+ * lock do Postgres, válido entre várias instâncias da aplicação).
+ */
+public interface PlaceLock {
+
+  <T> T execute(Collection<Long> placeIds, Supplier<T> action);
+}
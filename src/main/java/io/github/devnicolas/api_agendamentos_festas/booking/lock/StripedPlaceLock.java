@@ -0,0 +1,68 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Locks listrados por espaço: escritas no mesmo espaço são serializadas,
+ * espaços em listras diferentes seguem em paralelo.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.lock.mode", havingValue = "local", matchIfMissing = true)
+public class StripedPlaceLock implements PlaceLock {
+
+  private final ReentrantLock[] stripes;
+
+  public StripedPlaceLock(@Value("${booking.lock.stripes:64}") int stripes) {
+    int size = 1;
+    while (size < stripes) {
+      size <<= 1;
+    }
+    this.stripes = new ReentrantLock[size];
+    for (int i = 0; i < size; i++) {
+      this.stripes[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * Executa a ação segurando as listras de todos os espaços informados,
+   * adquiridas sempre em ordem crescente para evitar deadlock.
+   */
+  @Override
+  public <T> T execute(Collection<Long> placeIds, Supplier<T> action) {
+    int[] indexes = placeIds.stream()
+      .filter(Objects::nonNull)
+      .mapToInt(this::stripeOf)
+      .distinct()
+      .sorted()
+      .toArray();
+
+    int acquired = 0;
+    try {
+      for (int index : indexes) {
+        stripes[index].lock();
+        acquired++;
+      }
+      return action.get();
+    } finally {
+      for (int i = acquired - 1; i >= 0; i--) {
+        stripes[indexes[i]].unlock();
+      }
+    }
+  }
+
+  int stripeOf(Long placeId) {
+    int hash = placeId.hashCode();
+    return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+  }
+
+  int stripeCount() {
+    return stripes.length;
+  }
+}
@@ -0,0 +1,43 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.stats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consolida os deltas que o trigger grava em booking_rollup_delta (V10) nas
+ * linhas de booking_rollup. Só o fold disputa as linhas do rollup, uma
+ * instância por vez (advisory lock dentro da função) e em ordem de chave.
+ */
+@Component
+public class BookingRollupFolder {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Counter foldedCounter;
+
+  public BookingRollupFolder(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.foldedCounter = Counter.builder("booking.stats.rollup.folded")
+      .description("Grupos do rollup atualizados a partir dos deltas")
+      .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${booking.stats.fold-interval:PT1M}",
+    initialDelayString = "${booking.stats.fold-interval:PT1M}")
+  public void run() {
+    fold();
+  }
+
+  /**
+   * Executa um fold e devolve quantos grupos do rollup foram tocados; 0 quando
+   * outra instância já está consolidando.
+   */
+  public long fold() {
+    Long folded = jdbcTemplate.queryForObject("SELECT booking_rollup_fold()", Long.class);
+    long total = folded == null ? 0 : folded;
+    foldedCounter.increment(total);
+    return total;
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.stats;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingStatsDTO;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Totais de reservas lidos da tabela booking_rollup, que um trigger mantém a
+ * cada escrita em booking (V9). A consulta agrega no máximo
+ * espaços x pacotes x status x meses linhas, não importa quantas reservas existam.
+ * <p>
+ * Desde o V10 o trigger grava deltas em booking_rollup_delta e o
+ * {@link BookingRollupFolder} os consolida periodicamente; a leitura soma as
+ * duas tabelas para continuar exata entre um fold e outro.
+ */
+@Service
+public class BookingStatsService {
+
+  // Dimensão do groupBy -> coluna do rollup; também serve de whitelist para o SQL
+  static final Map<String, String> DIMENSIONS = Map.of(
+    "place", "place_id",
+    "package", "party_package",
+    "status", "booking_status",
+    "month", "month"
+  );
+
+  private static final String ROLLUP_SOURCE = "(SELECT place_id, party_package, booking_status, month,"
+    + " booking_count, total_value FROM booking_rollup"
+    + " UNION ALL SELECT place_id, party_package, booking_status, month,"
+    + " booking_count, total_value FROM booking_rollup_delta) rollup";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public BookingStatsService(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public List<BookingStatsDTO> stats(List<String> groupBy) {
+    Set<String> dimensions = parse(groupBy);
+    String columns = dimensions.stream().map(DIMENSIONS::get).collect(Collectors.joining(", "));
+
+    String sql = dimensions.isEmpty()
+      ? "SELECT COALESCE(SUM(booking_count), 0) AS booking_count, COALESCE(SUM(total_value), 0) AS total_value"
+        + " FROM " + ROLLUP_SOURCE
+      : "SELECT " + columns + ", SUM(booking_count) AS booking_count, SUM(total_value) AS total_value"
+        + " FROM " + ROLLUP_SOURCE + " GROUP BY " + columns
+        + " HAVING SUM(booking_count) > 0 ORDER BY " + columns;
+
+    return jdbcTemplate.query(sql, (rs, rowNum) -> new BookingStatsDTO(
+      dimensions.contains("place") ? rs.getLong("place_id") : null,
+      dimensions.contains("package") ? PartyPackageEnum.valueOf(rs.getString("party_package")) : null,
+      dimensions.contains("status") ? BookingStatus.valueOf(rs.getString("booking_status")) : null,
+      dimensions.contains("month") ? YearMonth.from(rs.getDate("month").toLocalDate()) : null,
+      rs.getLong("booking_count"),
+      rs.getBigDecimal("total_value")
+    ));
+  }
+
+  private static Set<String> parse(List<String> groupBy) {
+    Set<String> dimensions = new LinkedHashSet<>();
+    if (groupBy == null) {
+      return dimensions;
+    }
+    for (String raw : groupBy) {
+      String dimension = raw.trim().toLowerCase(Locale.ROOT);
+      if (dimension.isEmpty()) {
+        continue;
+      }
+      if (!DIMENSIONS.containsKey(dimension)) {
+        throw new ValidationException(List.of(
+          "groupBy inválido: " + raw + ". Use place, package, status ou month."));
+      }
+      dimensions.add(dimension);
+    }
+    return dimensions;
+  }
+}
@@ -1,6 +1,7 @@
 package io.github.devnicolas.api_agendamentos_festas.client;
 
 import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.entities.Identifiable;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
@@ -9,7 +10,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "client")
-public class Client {
+public class Client implements Identifiable<Long> {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
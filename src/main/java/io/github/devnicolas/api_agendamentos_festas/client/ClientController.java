@@ -17,7 +17,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
-
 @RestController
 @RequestMapping("/clients")
 @Tag(name = "Clients", description = "Gerenciamento de clientes")
@@ -57,16 +56,18 @@ public class ClientController extends BaseControllerImpl<Client, ClientRequestDT
     }
 
     @Override
+    @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Listar todos os clientes", description = "Retorna uma lista de todos os clientes cadastrados")
+    @Operation(summary = "Listar todos os clientes", description = "Retorna os clientes cadastrados paginados por id (keyset). Use o header X-Next-Cursor como parâmetro after para a próxima página")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de clientes retornada com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ClientResponseDTO.class))),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     @SecurityRequirement(name = "bearer-jwt")
-    public ResponseEntity<List<ClientResponseDTO>> findAll() {
-        return super.findAll();
+    public ResponseEntity<List<ClientResponseDTO>> findAll(@RequestParam(required = false) Long after,
+                                                           @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return super.findAll(after, limit);
     }
 
     @Override
@@ -1,11 +1,30 @@
 package io.github.devnicolas.api_agendamentos_festas.client;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import io.github.devnicolas.api_agendamentos_festas.client.dtos.ClientResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.repositories.BaseRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ClientRepository extends JpaRepository<Client, Long> {
+public interface ClientRepository extends BaseRepository<Client, Long> {
+
+  String VIEW_SELECT = """
+    select new io.github.devnicolas.api_agendamentos_festas.client.dtos.ClientResponseDTO(
+      c.name, c.phoneNumber, c.dateOfBirth, c.id)
+    from Client c
+    """;
 
+  @Query(VIEW_SELECT + "where c.id = :id")
+  Optional<ClientResponseDTO> findViewById(@Param("id") Long id);
 
+  @Query(VIEW_SELECT + "order by c.id")
+  List<ClientResponseDTO> findViewPage(Limit limit);
 
+  @Query(VIEW_SELECT + "where c.id > :after order by c.id")
+  List<ClientResponseDTO> findViewPageAfter(@Param("after") Long after, Limit limit);
 }
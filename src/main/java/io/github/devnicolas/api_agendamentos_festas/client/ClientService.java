@@ -2,7 +2,12 @@ package io.github.devnicolas.api_agendamentos_festas.client;
 
 
 import io.github.devnicolas.api_agendamentos_festas.client.dtos.ClientRequestDTO;
+import io.github.devnicolas.api_agendamentos_festas.client.dtos.ClientResponseDTO;
 import io.github.devnicolas.api_agendamentos_festas.interfaces.services.BaseServiceImpl;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.CrudMetrics;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.ViewCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -10,11 +15,16 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
-public class ClientService extends BaseServiceImpl<Client, ClientRequestDTO, Long> {
+public class ClientService extends BaseServiceImpl<Client, ClientRequestDTO, ClientResponseDTO, Long> {
+  private final ClientRepository clientRepository;
   private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
-  public ClientService(ClientRepository clientRepository, BCryptPasswordEncoder bCryptPasswordEncoder) {
-    super(clientRepository);
+  public ClientService(ClientRepository clientRepository,
+                       BCryptPasswordEncoder bCryptPasswordEncoder,
+                       ViewCache<Long, ClientResponseDTO> clientViewCache,
+                       MeterRegistry meterRegistry) {
+    super(clientRepository, clientViewCache, CrudMetrics.of("client", meterRegistry));
+    this.clientRepository = clientRepository;
     this.bCryptPasswordEncoder = bCryptPasswordEncoder;
   }
 
@@ -30,5 +40,22 @@ public class ClientService extends BaseServiceImpl<Client, ClientRequestDTO, Lon
     entity.setDateOfBirth(dto.dateOfBirth());
   }
 
+  @Override
+  protected Optional<ClientResponseDTO> loadView(Long id) {
+    return clientRepository.findViewById(id);
+  }
+
+  @Override
+  protected List<ClientResponseDTO> loadViewPage(Long after, Limit limit) {
+    return after == null
+      ? clientRepository.findViewPage(limit)
+      : clientRepository.findViewPageAfter(after, limit);
+  }
+
+  @Override
+  protected Long viewId(ClientResponseDTO view) {
+    return view.id();
+  }
+
 
 }
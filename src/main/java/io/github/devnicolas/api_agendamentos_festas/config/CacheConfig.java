@@ -0,0 +1,62 @@
+package io.github.devnicolas.api_agendamentos_festas.config;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.client.dtos.ClientResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.CacheInvalidationBus;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.ViewCache;
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Caches de leitura por entidade. Cada um é ligado em &lt;entidade&gt;.cache.enabled,
+ * com tamanho e TTL próprios, e registrado no CacheInvalidationBus.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public ViewCache<Long, PlaceResponseDTO> placeViewCache(
+            MeterRegistry meterRegistry,
+            CacheInvalidationBus invalidationBus,
+            @Value("${place.cache.enabled:true}") boolean enabled,
+            @Value("${place.cache.max-size:1000}") long maxSize,
+            @Value("${place.cache.ttl:PT10M}") Duration ttl) {
+        return viewCache("place", enabled, maxSize, ttl, meterRegistry, invalidationBus);
+    }
+
+    @Bean
+    public ViewCache<Long, BookingResponseDTO> bookingViewCache(
+            MeterRegistry meterRegistry,
+            CacheInvalidationBus invalidationBus,
+            @Value("${booking.cache.enabled:false}") boolean enabled,
+            @Value("${booking.cache.max-size:10000}") long maxSize,
+            @Value("${booking.cache.ttl:PT5M}") Duration ttl) {
+        return viewCache("booking", enabled, maxSize, ttl, meterRegistry, invalidationBus);
+    }
+
+    @Bean
+    public ViewCache<Long, ClientResponseDTO> clientViewCache(
+            MeterRegistry meterRegistry,
+            CacheInvalidationBus invalidationBus,
+            @Value("${client.cache.enabled:false}") boolean enabled,
+            @Value("${client.cache.max-size:1000}") long maxSize,
+            @Value("${client.cache.ttl:PT10M}") Duration ttl) {
+        return viewCache("client", enabled, maxSize, ttl, meterRegistry, invalidationBus);
+    }
+
+    private static <V> ViewCache<Long, V> viewCache(String name, boolean enabled, long maxSize, Duration ttl,
+                                                   MeterRegistry meterRegistry,
+                                                   CacheInvalidationBus invalidationBus) {
+        if (!enabled) {
+            return ViewCache.disabled();
+        }
+        ViewCache<Long, V> cache = ViewCache.of(name, maxSize, ttl, meterRegistry, invalidationBus::publish);
+        invalidationBus.register(cache);
+        return cache;
+    }
+}
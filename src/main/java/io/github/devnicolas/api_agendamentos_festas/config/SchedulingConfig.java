@@ -0,0 +1,9 @@
+package io.github.devnicolas.api_agendamentos_festas.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,103 @@
+package io.github.devnicolas.api_agendamentos_festas.config.bulkhead;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limita quantas threads pedem conexão ao pool ao mesmo tempo. Com virtual
+ * threads não há teto de threads de requisição; sem o semáforo, milhares de
+ * threads ficariam disputando o checkout do Hikari. A permissão volta no
+ * close() da conexão.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final int maxPermits;
+  private final long timeoutNanos;
+
+  public BulkheadDataSource(DataSource target, int maxPermits, Duration timeout) {
+    super(target);
+    this.permits = new Semaphore(maxPermits, true);
+    this.maxPermits = maxPermits;
+    this.timeoutNanos = timeout.toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return guard(super.getConnection());
+    } catch (SQLException | RuntimeException ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return guard(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  public int maxPermits() {
+    return maxPermits;
+  }
+
+  public int availablePermits() {
+    return permits.availablePermits();
+  }
+
+  public int queueLength() {
+    return permits.getQueueLength();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new SQLTransientConnectionException("Bulkhead do banco esgotado: " + maxPermits
+          + " conexões em uso e tempo de espera excedido");
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrompido aguardando o bulkhead do banco", ex);
+    }
+  }
+
+  private Connection guard(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(
+      Connection.class.getClassLoader(),
+      new Class<?>[]{Connection.class},
+      (proxy, method, args) -> {
+        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+          } finally {
+            permits.release();
+          }
+        }
+        try {
+          return method.invoke(connection, args);
+        } catch (InvocationTargetException ex) {
+          throw ex.getTargetException();
+        }
+      });
+  }
+}
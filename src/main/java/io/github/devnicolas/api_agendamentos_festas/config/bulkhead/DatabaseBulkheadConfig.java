@@ -0,0 +1,65 @@
+package io.github.devnicolas.api_agendamentos_festas.config.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Com spring.threads.virtual.enabled=true o Tomcat atende cada requisição numa
+ * virtual thread. Aqui o DataSource do Hikari é envolvido por um
+ * {@link BulkheadDataSource} com o mesmo número de permissões do pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DatabaseBulkheadConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseBulkheadPostProcessor(Environment environment,
+                                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        Duration timeout = environment.getProperty("db.bulkhead.timeout", Duration.class, Duration.ofSeconds(30));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                HikariDataSource hikari = hikariOf(bean);
+                if (hikari == null) {
+                    return bean;
+                }
+                BulkheadDataSource bulkhead = new BulkheadDataSource((DataSource) bean, hikari.getMaximumPoolSize(), timeout);
+                meterRegistry.ifAvailable(registry -> {
+                    Gauge.builder("db.bulkhead.available", bulkhead, BulkheadDataSource::availablePermits)
+                        .description("Permissões livres do bulkhead do banco")
+                        .register(registry);
+                    Gauge.builder("db.bulkhead.waiting", bulkhead, BulkheadDataSource::queueLength)
+                        .description("Threads aguardando permissão do bulkhead do banco")
+                        .register(registry);
+                });
+                return bulkhead;
+            }
+        };
+    }
+
+    // O DataSource pode já ter sido envolvido por outro post-processor (ex.: SqlStatsConfig)
+    private static HikariDataSource hikariOf(Object bean) {
+        if (bean instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        try {
+            if (bean instanceof DataSource dataSource && dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException ex) {
+            return null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.devnicolas.api_agendamentos_festas.config.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Conta os statements SQL de cada requisição. Sempre registra
+ * http.server.sql.statements e http.server.sql.time por método e rota; com
+ * headers ligados (dev) devolve também X-Sql-Statements e X-Sql-Time-Ms.
+ * Acima de warnThreshold statements loga um aviso: quase sempre é N+1.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headers;
+    private final int warnThreshold;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry, boolean headers, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.headers = headers;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            chain.doFilter(request, headers ? new StatsHeaderResponse(response, stats) : response);
+        } finally {
+            SqlStatementStats.end();
+            if (headers && !response.isCommitted()) {
+                writeHeaders(response, stats);
+            }
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.sql.statements")
+            .description("Statements SQL executados por requisição")
+            .baseUnit("statements")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(stats.statements());
+        Timer.builder("http.server.sql.time")
+            .description("Tempo em JDBC por requisição")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(stats.elapsed());
+
+        if (stats.statements() > warnThreshold) {
+            log.warn("{} {} executou {} statements SQL em {} ms (limite {}); possível N+1",
+                request.getMethod(), uri, stats.statements(), stats.elapsed().toMillis(), warnThreshold);
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, SqlStatementStats stats) {
+        response.setHeader(STATEMENTS_HEADER, String.valueOf(stats.statements()));
+        response.setHeader(TIME_HEADER, String.valueOf(stats.elapsed().toMillis()));
+    }
+
+    // Headers precisam sair antes do commit da resposta, que acontece na escrita do corpo
+    private static class StatsHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final SqlStatementStats stats;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders((HttpServletResponse) getResponse(), stats);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.devnicolas.api_agendamentos_festas.config.sql;
+
+import java.time.Duration;
+
+/**
+ * Contagem de statements SQL e tempo de JDBC da requisição corrente. O
+ * SqlStatementFilter abre e fecha o contador na thread da requisição;
+ * statements fora de uma requisição (jobs, listeners) não são contados.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long elapsedNanos;
+    private long startedAt;
+
+    private SqlStatementStats() {
+    }
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void beforeStatement() {
+        startedAt = System.nanoTime();
+    }
+
+    void afterStatement() {
+        elapsedNanos += System.nanoTime() - startedAt;
+        statements++;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+}
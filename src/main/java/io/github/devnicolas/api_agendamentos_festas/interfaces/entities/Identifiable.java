@@ -0,0 +1,6 @@
+package io.github.devnicolas.api_agendamentos_festas.interfaces.entities;
+
+public interface Identifiable<ID> {
+
+  ID getId();
+}
@@ -0,0 +1,16 @@
+package io.github.devnicolas.api_agendamentos_festas.interfaces.repositories;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+
+@NoRepositoryBean
+public interface BaseRepository<T, ID> extends JpaRepository<T, ID> {
+
+  // Paginação por keyset: o custo da página não depende da profundidade
+  List<T> findAllByOrderByIdAsc(Limit limit);
+
+  List<T> findByIdGreaterThanOrderByIdAsc(ID after, Limit limit);
+}
@@ -1,55 +1,129 @@
 package io.github.devnicolas.api_agendamentos_festas.interfaces.services;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import io.github.devnicolas.api_agendamentos_festas.exception.ResourceNotFoundException;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.entities.Identifiable;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.repositories.BaseRepository;
+import org.springframework.data.domain.Limit;
 
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
-public abstract class BaseServiceImpl<T, D, ID> implements CrudService<T, D, ID> {
-  protected final JpaRepository<T, ID> repository;
+public abstract class BaseServiceImpl<T extends Identifiable<ID>, D, RES, ID> implements CrudService<T, D, RES, ID> {
+  public static final int MAX_PAGE_SIZE = 500;
 
-  protected BaseServiceImpl(JpaRepository<T, ID> repository) {
-    this.repository = repository;
+  protected final BaseRepository<T, ID> repository;
+  protected final CrudMetrics metrics;
+  private final ViewCache<ID, RES> viewCache;
+
+  protected BaseServiceImpl(BaseRepository<T, ID> repository) {
+    this(repository, ViewCache.disabled());
+  }
 
+  // Subclasses que passam um ViewCache ligado têm o findViewById cacheado
+  protected BaseServiceImpl(BaseRepository<T, ID> repository, ViewCache<ID, RES> viewCache) {
+    this(repository, viewCache, CrudMetrics.disabled());
+  }
+
+  protected BaseServiceImpl(BaseRepository<T, ID> repository, ViewCache<ID, RES> viewCache, CrudMetrics metrics) {
+    this.repository = repository;
+    this.viewCache = viewCache;
+    this.metrics = metrics;
   }
 
   protected abstract T toEntity(D dto);
 
   protected abstract void updateEntity(T entity, D dto);
 
+  // Leituras somente-leitura: o repositório monta o DTO direto na query, sem hidratar a entidade
+  protected abstract Optional<RES> loadView(ID id);
+
+  protected abstract List<RES> loadViewPage(ID after, Limit limit);
+
+  protected abstract ID viewId(RES view);
+
+  // Os métodos públicos só medem; subclasses estendem doCreate/doUpdate/doDelete
+  // para que locks e efeitos colaterais entrem no tempo da operação
   @Override
   public T create(D dtoRequest) {
-    T entity = toEntity(dtoRequest);
-    return repository.save(entity);
+    return metrics.record("create", () -> doCreate(dtoRequest));
   }
 
   @Override
   public void delete(ID id) {
+    metrics.run("delete", () -> doDelete(id));
+  }
+
+  @Override
+  public T update(ID id, D dto) {
+    return metrics.record("update", () -> doUpdate(id, dto));
+  }
+
+  @Override
+  public List<T> findAll() {
+    return metrics.record("findAll", () -> this.repository.findAll());
+  }
+
+  @Override
+  public Optional<T> findById(ID id) {
+    return metrics.record("findById", () -> this.repository.findById(id));
+  }
+
+  @Override
+  public Optional<RES> findViewById(ID id) {
+    return metrics.record("findViewById", () -> viewCache.get(id, this::loadView));
+  }
+
+  @Override
+  public KeysetPage<RES, ID> findViewPage(ID after, int limit) {
+    return metrics.record("findViewPage", () -> {
+      checkLimit(limit);
+      return toPage(loadViewPage(after, Limit.of(limit)), limit, this::viewId);
+    });
+  }
+
+  protected T doCreate(D dtoRequest) {
+    T entity = toEntity(dtoRequest);
+    // Sem evict: ausência não é cacheada, então um id novo não está em cache nenhum
+    return repository.save(entity);
+  }
+
+  protected void doDelete(ID id) {
     if (!repository.existsById(id)) {
-      throw new RuntimeException("Recurso não encontrado com o ID: " + id);
+      throw new ResourceNotFoundException("Recurso não encontrado com o ID: " + id);
     }
     this.repository.deleteById(id);
+    evictView(id);
   }
 
-
-  @Override
-  public T update(ID id, D dto) {
+  protected T doUpdate(ID id, D dto) {
     T entity = repository.findById(id)
-      .orElseThrow(() -> new RuntimeException("Id não encontrado: " + id));
+      .orElseThrow(() -> new ResourceNotFoundException("Recurso não encontrado com o ID: " + id));
 
     updateEntity(entity, dto);
 
-    return repository.save(entity);
+    T saved = repository.save(entity);
+    evictView(id);
+    return saved;
   }
 
-  @Override
-  public List<T> findAll() {
-    return this.repository.findAll();
+  // Para escritas fora de create/update/delete (ex.: mudanças de status)
+  protected void evictView(ID id) {
+    if (id != null) {
+      viewCache.evict(id);
+    }
   }
 
-  @Override
-  public Optional<T> findById(ID id) {
-    return this.repository.findById(id);
+  private static void checkLimit(int limit) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new ValidationException(List.of("O limite deve estar entre 1 e " + MAX_PAGE_SIZE + "."));
+    }
+  }
+
+  private static <V, K> KeysetPage<V, K> toPage(List<V> items, int limit, Function<V, K> idOf) {
+    K nextCursor = items.size() == limit ? idOf.apply(items.get(items.size() - 1)) : null;
+    return new KeysetPage<>(items, nextCursor);
   }
 }
@@ -0,0 +1,245 @@
+package io.github.devnicolas.api_agendamentos_festas.interfaces.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invalidação dos ViewCache entre instâncias via LISTEN/NOTIFY do Postgres.
+ * Cada evict local publica "nó|cache|id,id,..." no canal, com quantos ids
+ * couberem no limite de payload do NOTIFY; dentro de uma transação o
+ * Postgres só entrega a notificação no commit. Uma thread por nó escuta o
+ * canal e remove as entradas locais. O LISTEN usa uma conexão própria, aberta
+ * fora do Hikari: segurá-la no pool deixaria as requisições (e o bulkhead
+ * dimensionado pelo pool) com uma conexão a menos. Ao (re)conectar, os caches
+ * locais são limpos, porque notificações podem ter sido perdidas enquanto a
+ * conexão estava fora.
+ */
+@Component
+public class CacheInvalidationBus {
+
+  public static final String CHANNEL = "view_cache_invalidation";
+
+  private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+  private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+  private static final String SEPARATOR = "|";
+  private static final String ID_SEPARATOR = ",";
+  // O Postgres recusa payloads de 8000 bytes ou mais
+  static final int MAX_PAYLOAD_BYTES = 7999;
+  private static final String ALL = "*";
+
+  private final DataSourceProperties dataSourceProperties;
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+  private final Duration pollTimeout;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<String, ViewCache<Long, ?>> caches = new ConcurrentHashMap<>();
+  private final Map<String, Runnable> clearListeners = new ConcurrentHashMap<>();
+  private final Counter publishedCounter;
+  private final Counter receivedCounter;
+  private final Counter publishFailureCounter;
+  private final Counter reconnectCounter;
+  private volatile boolean running;
+  private Thread listener;
+
+  public CacheInvalidationBus(DataSourceProperties dataSourceProperties,
+                              JdbcTemplate jdbcTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${cache.invalidation.enabled:true}") boolean enabled,
+                              @Value("${cache.invalidation.poll-timeout:PT5S}") Duration pollTimeout) {
+    this.dataSourceProperties = dataSourceProperties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+    this.pollTimeout = pollTimeout;
+    this.publishedCounter = Counter.builder("cache.invalidation.published")
+      .description("Invalidações enviadas via pg_notify")
+      .register(meterRegistry);
+    this.receivedCounter = Counter.builder("cache.invalidation.received")
+      .description("Invalidações recebidas de outras instâncias")
+      .register(meterRegistry);
+    this.publishFailureCounter = Counter.builder("cache.invalidation.publish.failures")
+      .description("Invalidações que não puderam ser enviadas")
+      .register(meterRegistry);
+    this.reconnectCounter = Counter.builder("cache.invalidation.reconnects")
+      .description("Reconexões do listener (caches locais limpos a cada uma)")
+      .register(meterRegistry);
+  }
+
+  public void register(ViewCache<Long, ?> cache) {
+    caches.put(cache.name(), cache);
+  }
+
+  /**
+   * Para caches que só sabem ser limpos por inteiro (ex.: PlaceCatalogue): o
+   * listener roda em cada publishClear de outra instância e a cada reconexão.
+   */
+  public void register(String name, Runnable onClear) {
+    clearListeners.put(name, onClear);
+  }
+
+  public void publish(String cacheName, Collection<Long> ids) {
+    if (!enabled || ids.isEmpty()) {
+      return;
+    }
+    // Ids são ASCII: cada caractere da chave é um byte do payload
+    int room = MAX_PAYLOAD_BYTES - prefix(cacheName).getBytes(StandardCharsets.UTF_8).length;
+    StringBuilder keys = new StringBuilder();
+    for (Long id : ids) {
+      String key = String.valueOf(id);
+      if (!keys.isEmpty() && keys.length() + ID_SEPARATOR.length() + key.length() > room) {
+        send(cacheName, keys.toString());
+        keys.setLength(0);
+      }
+      if (!keys.isEmpty()) {
+        keys.append(ID_SEPARATOR);
+      }
+      keys.append(key);
+    }
+    send(cacheName, keys.toString());
+  }
+
+  public void publishClear(String name) {
+    send(name, ALL);
+  }
+
+  private void send(String name, String key) {
+    if (!enabled) {
+      return;
+    }
+    String payload = prefix(name) + key;
+    try {
+      jdbcTemplate.execute(NOTIFY_SQL, (PreparedStatementCallback<Boolean>) statement -> {
+        statement.setString(1, CHANNEL);
+        statement.setString(2, payload);
+        return statement.execute();
+      });
+      publishedCounter.increment();
+    } catch (DataAccessException ex) {
+      // A escrita já foi feita; as outras instâncias ficam com o TTL como limite
+      publishFailureCounter.increment();
+    }
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    // Sem pool: cada getConnection abre uma conexão física nova com as credenciais do spring.datasource
+    DataSource listenDataSource = dataSourceProperties.initializeDataSourceBuilder()
+      .type(SimpleDriverDataSource.class)
+      .build();
+    running = true;
+    listener = new Thread(() -> listen(listenDataSource), "view-cache-invalidation");
+    listener.setDaemon(true);
+    listener.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    if (listener != null) {
+      listener.interrupt();
+    }
+  }
+
+  String nodeId() {
+    return nodeId;
+  }
+
+  private String prefix(String name) {
+    return nodeId + SEPARATOR + name + SEPARATOR;
+  }
+
+  void handle(String payload) {
+    String[] parts = payload.split("\\" + SEPARATOR, 3);
+    if (parts.length != 3 || nodeId.equals(parts[0])) {
+      return;
+    }
+    Runnable onClear = clearListeners.get(parts[1]);
+    if (onClear != null && ALL.equals(parts[2])) {
+      onClear.run();
+      receivedCounter.increment();
+      return;
+    }
+    ViewCache<Long, ?> cache = caches.get(parts[1]);
+    if (cache == null) {
+      return;
+    }
+    try {
+      List<Long> ids = new ArrayList<>();
+      for (String key : parts[2].split(ID_SEPARATOR)) {
+        ids.add(Long.valueOf(key));
+      }
+      ids.forEach(cache::evictLocal);
+      receivedCounter.increment();
+    } catch (NumberFormatException ex) {
+      // Payload de outro formato no mesmo canal: ignora
+    }
+  }
+
+  private void listen(DataSource listenDataSource) {
+    while (running) {
+      try (Connection connection = listenDataSource.getConnection()) {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        caches.values().forEach(ViewCache::clearLocal);
+        clearListeners.values().forEach(Runnable::run);
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              handle(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException | RuntimeException ex) {
+        // Qualquer falha derruba só a conexão atual; a thread segue reconectando
+        if (running) {
+          log.warn("Listener de invalidação de cache caiu; reconectando em {}: {}", pollTimeout, ex.toString());
+          reconnectCounter.increment();
+          pause();
+        }
+      }
+    }
+  }
+
+  private void pause() {
+    try {
+      Thread.sleep(pollTimeout.toMillis());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package io.github.devnicolas.api_agendamentos_festas.interfaces.services;
+
+import io.github.devnicolas.api_agendamentos_festas.exception.ResourceNotFoundException;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Métricas das operações de CRUD de uma entidade:
+ * crud.operation{entity,operation,outcome,exception} (timer; o count é o
+ * contador por resultado) e crud.result.size{entity,operation} para as
+ * listagens. Histogramas e percentis vêm de management.metrics.distribution.
+ */
+public class CrudMetrics {
+
+  public static final String OPERATION_TIMER = "crud.operation";
+  public static final String RESULT_SIZE = "crud.result.size";
+
+  static final String SUCCESS = "success";
+  static final String NOT_FOUND = "not_found";
+  static final String INVALID = "invalid";
+  static final String ERROR = "error";
+
+  private static final String NO_EXCEPTION = "none";
+
+  private final String entity;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> sizes = new ConcurrentHashMap<>();
+
+  private CrudMetrics(String entity, MeterRegistry meterRegistry) {
+    this.entity = entity;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public static CrudMetrics of(String entity, MeterRegistry meterRegistry) {
+    return new CrudMetrics(entity, meterRegistry);
+  }
+
+  public static CrudMetrics disabled() {
+    return new CrudMetrics("disabled", null);
+  }
+
+  public String entity() {
+    return entity;
+  }
+
+  // Optional vazio conta como not_found; exceções são repassadas depois de registradas
+  public <R> R record(String operation, Supplier<R> call) {
+    if (meterRegistry == null) {
+      return call.get();
+    }
+    long start = System.nanoTime();
+    try {
+      R result = call.get();
+      String outcome = result instanceof Optional<?> optional && optional.isEmpty() ? NOT_FOUND : SUCCESS;
+      timer(operation, outcome, NO_EXCEPTION).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      if (result instanceof Collection<?> items) {
+        resultSize(operation).record(items.size());
+      } else if (result instanceof KeysetPage<?, ?> page) {
+        resultSize(operation).record(page.items().size());
+      }
+      return result;
+    } catch (RuntimeException ex) {
+      timer(operation, outcomeOf(ex), ex.getClass().getSimpleName())
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw ex;
+    }
+  }
+
+  public void run(String operation, Runnable call) {
+    record(operation, () -> {
+      call.run();
+      return null;
+    });
+  }
+
+  private static String outcomeOf(RuntimeException ex) {
+    if (ex instanceof ResourceNotFoundException) {
+      return NOT_FOUND;
+    }
+    if (ex instanceof ValidationException) {
+      return INVALID;
+    }
+    return ERROR;
+  }
+
+  private Timer timer(String operation, String outcome, String exception) {
+    return timers.computeIfAbsent(operation + '|' + outcome + '|' + exception, key -> Timer.builder(OPERATION_TIMER)
+      .description("Duração das operações de CRUD por entidade e resultado")
+      .tag("entity", entity)
+      .tag("operation", operation)
+      .tag("outcome", outcome)
+      .tag("exception", exception)
+      .register(meterRegistry));
+  }
+
+  private DistributionSummary resultSize(String operation) {
+    return sizes.computeIfAbsent(operation, key -> DistributionSummary.builder(RESULT_SIZE)
+      .description("Quantidade de itens devolvidos pelas listagens")
+      .baseUnit("items")
+      .tag("entity", entity)
+      .tag("operation", operation)
+      .register(meterRegistry));
+  }
+}
@@ -3,7 +3,7 @@ package io.github.devnicolas.api_agendamentos_festas.interfaces.services;
 import java.util.List;
 import java.util.Optional;
 
-public interface CrudService<T, D, ID> {
+public interface CrudService<T, D, RES, ID> {
 
   T create(D dtoRequest);
 
@@ -11,6 +11,10 @@ public interface CrudService<T, D, ID> {
 
   List<T> findAll();
 
+  Optional<RES> findViewById(ID id);
+
+  KeysetPage<RES, ID> findViewPage(ID after, int limit);
+
   T update(ID id, D dto);
 
   void delete(ID id);
@@ -0,0 +1,10 @@
+package io.github.devnicolas.api_agendamentos_festas.interfaces.services;
+
+import java.util.List;
+
+/**
+ * Página de resultados por keyset. nextCursor é o id do último item quando a
+ * página veio cheia, ou null quando não há mais itens.
+ */
+public record KeysetPage<T, ID>(List<T> items, ID nextCursor) {
+}
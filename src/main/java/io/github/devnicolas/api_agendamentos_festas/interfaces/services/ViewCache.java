@@ -0,0 +1,110 @@
+package io.github.devnicolas.api_agendamentos_festas.interfaces.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Cache read-through de DTOs de leitura, limitado por tamanho e TTL. Desligado,
+ * só repassa para o loader. Hits e misses saem em cache.gets{cache=nome}.
+ * Cada evict é repassado ao onEvict (ex.: CacheInvalidationBus) para que as
+ * outras instâncias também removam a entrada; evictAll repassa os ids de uma
+ * vez, para o barramento agrupá-los em poucas notificações.
+ */
+public class ViewCache<ID, V> {
+
+  private final String name;
+  private final Cache<ID, V> cache;
+  private final BiConsumer<String, Collection<ID>> onEvict;
+
+  private ViewCache(String name, Cache<ID, V> cache, BiConsumer<String, Collection<ID>> onEvict) {
+    this.name = name;
+    this.cache = cache;
+    this.onEvict = onEvict;
+  }
+
+  public static <ID, V> ViewCache<ID, V> of(String name, long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+    return of(name, maxSize, ttl, meterRegistry, (cacheName, ids) -> {
+    });
+  }
+
+  public static <ID, V> ViewCache<ID, V> of(String name, long maxSize, Duration ttl, MeterRegistry meterRegistry,
+                                            BiConsumer<String, Collection<ID>> onEvict) {
+    Cache<ID, V> cache = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(ttl)
+      .recordStats()
+      .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    return new ViewCache<>(name, cache, onEvict);
+  }
+
+  public static <ID, V> ViewCache<ID, V> disabled() {
+    return new ViewCache<>("disabled", null, (cacheName, ids) -> {
+    });
+  }
+
+  public String name() {
+    return name;
+  }
+
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  // Ausência não é cacheada: um registro criado depois aparece na próxima leitura
+  public Optional<V> get(ID id, Function<ID, Optional<V>> loader) {
+    if (cache == null) {
+      return loader.apply(id);
+    }
+    return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+  }
+
+  /**
+   * Remove a entrada na hora e, dentro de uma transação, de novo após o
+   * commit, para não guardar o valor antigo lido por outra thread no meio.
+   */
+  public void evict(ID id) {
+    evictAll(List.of(id));
+  }
+
+  public void evictAll(Collection<ID> ids) {
+    if (cache == null || ids.isEmpty()) {
+      return;
+    }
+    List<ID> evicted = List.copyOf(ids);
+    cache.invalidateAll(evicted);
+    onEvict.accept(name, evicted);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.invalidateAll(evicted);
+        }
+      });
+    }
+  }
+
+  // Evict vindo de outra instância: não republica
+  public void evictLocal(ID id) {
+    if (cache != null) {
+      cache.invalidate(id);
+    }
+  }
+
+  public void clearLocal() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package io.github.devnicolas.api_agendamentos_festas.interfaces.services.controllers;
 import io.github.devnicolas.api_agendamentos_festas.exception.ResourceNotFoundException;
 import io.github.devnicolas.api_agendamentos_festas.interfaces.services.CrudService;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.KeysetPage;
 import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,11 +11,14 @@ import java.util.List;
 
 public abstract class BaseControllerImpl<T, REQ, RES, ID> implements CrudController<REQ, RES, ID> {
 
-  private final CrudService<T, REQ, ID> service;
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+  public static final String DEFAULT_PAGE_SIZE = "50";
+
+  private final CrudService<T, REQ, RES, ID> service;
 
   protected abstract RES toResponseDTO(T entity);
 
-  protected BaseControllerImpl(CrudService<T, REQ, ID> service) {
+  protected BaseControllerImpl(CrudService<T, REQ, RES, ID> service) {
     this.service = service;
   }
 
@@ -26,19 +30,27 @@ public abstract class BaseControllerImpl<T, REQ, RES, ID> implements CrudControl
 
   }
 
+  // Com ETag no ResponseEntity, o Spring responde 304 ao If-None-Match sem serializar o corpo
   @GetMapping("/{id}")
   @Override
   public ResponseEntity<RES> findById(@PathVariable ID id) {
-    return this.service.findById(id).map(this::toResponseDTO)
-            .map(ResponseEntity::ok)
+    return this.service.findViewById(id)
+            .map(view -> ResponseEntity.ok().eTag(ETags.of(view)).body(view))
             .orElseThrow(() -> new ResourceNotFoundException("Recurso não encontrado com o ID: " + id));
   }
 
-  @GetMapping
+  // Sem @GetMapping aqui: cada controller mapeia a própria listagem (o PlaceController serve bytes prontos)
   @Override
-  public ResponseEntity<List<RES>> findAll() {
-    List<RES> entity = this.service.findAll().stream().map(this::toResponseDTO).toList();
-    return ResponseEntity.status(HttpStatus.OK).body(entity);
+  public ResponseEntity<List<RES>> findAll(@RequestParam(required = false) ID after,
+                                           @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+    KeysetPage<RES, ID> page = this.service.findViewPage(after, limit);
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK)
+      .eTag(ETags.of(page.items(), page.nextCursor()));
+    if (page.nextCursor() != null) {
+      response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+    }
+    return response.body(page.items());
   }
 
   @PatchMapping("/{id}")
@@ -10,7 +10,7 @@ public interface CrudController<REQ, RES, ID> {
 
   ResponseEntity<RES> findById(ID id);
 
-  ResponseEntity<List<RES>> findAll();
+  ResponseEntity<List<RES>> findAll(ID after, int limit);
 
   ResponseEntity<RES> update(ID id, REQ dto);
 
@@ -0,0 +1,37 @@
+package io.github.devnicolas.api_agendamentos_festas.interfaces.services.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * ETag forte a partir do conteúdo dos DTOs de resposta. Os DTOs são records,
+ * então o toString() cobre todos os campos serializados e é o mesmo em
+ * qualquer instância; o hash é calculado sem passar pelo Jackson.
+ */
+public final class ETags {
+
+  private static final int TAG_BYTES = 16;
+
+  private ETags() {
+  }
+
+  public static String of(Object... parts) {
+    MessageDigest digest = sha256();
+    for (Object part : parts) {
+      digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+    }
+    byte[] hash = digest.digest();
+    return "\"" + HexFormat.of().formatHex(hash, 0, TAG_BYTES) + "\"";
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 indisponível", ex);
+    }
+  }
+}
@@ -1,13 +1,14 @@
 package io.github.devnicolas.api_agendamentos_festas.place;
 
 import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.entities.Identifiable;
 import jakarta.persistence.*;
 
 import java.util.List;
 
 @Entity
 @Table(name = "place")
-public class Place {
+public class Place implements Identifiable<Long> {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
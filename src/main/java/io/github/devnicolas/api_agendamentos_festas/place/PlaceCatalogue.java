@@ -0,0 +1,96 @@
+package io.github.devnicolas.api_agendamentos_festas.place;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.CacheInvalidationBus;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.KeysetPage;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.controllers.ETags;
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Páginas de GET /place já serializadas em JSON e em gzip. Qualquer alteração
+ * de espaço descarta tudo: a geração entra na chave, então uma montagem que
+ * estava em andamento durante a invalidação nunca é servida.
+ */
+@Component
+public class PlaceCatalogue {
+
+    public static final String NAME = "place-catalogue";
+
+    private final ObjectWriter writer;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<Key, Page> pages;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PlaceCatalogue(ObjectMapper objectMapper,
+                          CacheInvalidationBus invalidationBus,
+                          MeterRegistry meterRegistry,
+                          @Value("${place.catalogue.max-size:256}") long maxSize,
+                          @Value("${place.catalogue.ttl:PT10M}") Duration ttl) {
+        this.writer = objectMapper.writerFor(new TypeReference<List<PlaceResponseDTO>>() {
+        });
+        this.invalidationBus = invalidationBus;
+        this.pages = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, NAME);
+        invalidationBus.register(NAME, this::clearLocal);
+    }
+
+    public Page page(Long after, int limit, Supplier<KeysetPage<PlaceResponseDTO, Long>> loader) {
+        return pages.get(new Key(generation.get(), after, limit), key -> serialize(loader.get()));
+    }
+
+    public void invalidate() {
+        clearLocal();
+        invalidationBus.publishClear(NAME);
+    }
+
+    private void clearLocal() {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    private Page serialize(KeysetPage<PlaceResponseDTO, Long> page) {
+        try {
+            byte[] json = writer.writeValueAsBytes(page.items());
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            String etag = ETags.of(page.items(), page.nextCursor());
+            return new Page(json, compressed.toByteArray(), etag, gzipEtag(etag), page.nextCursor());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Os bytes em gzip são outra representação: ETag forte própria, no estilo "<tag>-gzip"
+    private static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    private record Key(long generation, Long after, int limit) {
+    }
+
+    public record Page(byte[] json, byte[] gzip, String etag, String gzipEtag, Long nextCursor) {
+    }
+}
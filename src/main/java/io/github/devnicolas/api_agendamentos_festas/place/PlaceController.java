@@ -1,6 +1,7 @@
 package io.github.devnicolas.api_agendamentos_festas.place;
 
 import io.github.devnicolas.api_agendamentos_festas.interfaces.services.controllers.BaseControllerImpl;
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceOccupancyDTO;
 import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceRequestDTO;
 import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,9 +11,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -20,8 +27,15 @@ import java.util.List;
 @Tag(name = "Places", description = "Gerenciamento de espaços para festas")
 public class PlaceController extends BaseControllerImpl<Place, PlaceRequestDTO, PlaceResponseDTO, Long> {
 
-  public PlaceController(PlaceService placeService) {
+  private final PlaceService placeService;
+  private final PlaceCatalogue placeCatalogue;
+  private final HttpServletRequest request;
+
+  public PlaceController(PlaceService placeService, PlaceCatalogue placeCatalogue, HttpServletRequest request) {
     super(placeService);
+    this.placeService = placeService;
+    this.placeCatalogue = placeCatalogue;
+    this.request = request;
   }
 
   @Override
@@ -50,16 +64,67 @@ public class PlaceController extends BaseControllerImpl<Place, PlaceRequestDTO,
     return super.findById(id);
   }
 
-  @Override
-  @Operation(summary = "Listar todos os espaços", description = "Retorna uma lista de todos os espaços cadastrados")
+  // Listagem HTTP servida do PlaceCatalogue: bytes prontos, sem query nem Jackson por requisição.
+  // O findAll herdado (lista tipada) continua disponível para quem usa o CrudController.
+  @GetMapping
+  @Operation(summary = "Listar todos os espaços", description = "Retorna os espaços cadastrados paginados por id (keyset). Use o header X-Next-Cursor como parâmetro after para a próxima página")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Lista de espaços retornada com sucesso",
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = PlaceResponseDTO.class))),
       @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
   })
   @SecurityRequirement(name = "bearer-jwt")
-  public ResponseEntity<List<PlaceResponseDTO>> findAll() {
-    return super.findAll();
+  public ResponseEntity<byte[]> findCatalogue(@RequestParam(required = false) Long after,
+                                              @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+    PlaceCatalogue.Page page = placeCatalogue.page(after, limit, () -> placeService.findViewPage(after, limit));
+    boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+    // Cada representação tem a sua ETag: um 304 nunca troca gzip por identity no cache do cliente
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(gzip ? page.gzipEtag() : page.etag())
+        .varyBy(HttpHeaders.ACCEPT_ENCODING);
+    if (page.nextCursor() != null) {
+      response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+    }
+    if (gzip) {
+      return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(page.gzip());
+    }
+    return response.body(page.json());
+  }
+
+  @GetMapping("/available")
+  @Operation(summary = "Buscar espaços livres", description = "Retorna os espaços com capacidade mínima informada e sem reservas ativas no período")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Lista de espaços livres retornada com sucesso",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = PlaceResponseDTO.class))),
+      @ApiResponse(responseCode = "400", description = "Período inválido (from/to ausentes ou to <= from)"),
+      @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+  })
+  @SecurityRequirement(name = "bearer-jwt")
+  public ResponseEntity<List<PlaceResponseDTO>> findAvailable(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      @RequestParam(defaultValue = "1") int minCapacity) {
+    List<PlaceResponseDTO> places = placeService.findAvailable(from, to, minCapacity).stream()
+        .map(this::toResponseDTO)
+        .toList();
+    return ResponseEntity.ok(places);
+  }
+
+  @GetMapping("/{id}/occupancy")
+  @Operation(summary = "Ocupação do espaço no mês", description = "Retorna, para cada dia do mês (yyyy-MM), um bitmap em base64 de 96 faixas de 15 minutos; o bit i % 8 do byte i / 8 indica se a faixa i está reservada")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Ocupação calculada",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = PlaceOccupancyDTO.class))),
+      @ApiResponse(responseCode = "400", description = "Mês inválido"),
+      @ApiResponse(responseCode = "404", description = "Espaço não encontrado"),
+      @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+  })
+  @SecurityRequirement(name = "bearer-jwt")
+  public ResponseEntity<PlaceOccupancyDTO> occupancy(@PathVariable Long id,
+                                                     @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+    return ResponseEntity.ok(placeService.occupancy(id, month));
   }
 
   @Override
@@ -88,6 +153,19 @@ public class PlaceController extends BaseControllerImpl<Place, PlaceRequestDTO,
     return super.delete(id);
   }
 
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (parts[0].trim().equalsIgnoreCase("gzip")) {
+        return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
   @Override
   protected PlaceResponseDTO toResponseDTO(Place place) {
     return new PlaceResponseDTO(
@@ -1,8 +1,62 @@
 package io.github.devnicolas.api_agendamentos_festas.place;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.repositories.BaseRepository;
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.place.occupancy.BookedPeriod;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface PlaceRepository extends JpaRepository<Place, Long> {
+public interface PlaceRepository extends BaseRepository<Place, Long> {
+
+    String VIEW_SELECT = """
+        select new io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO(
+          p.name, p.capacity, p.address, p.id)
+        from Place p
+        """;
+
+    @Query(VIEW_SELECT + "where p.id = :id")
+    Optional<PlaceResponseDTO> findViewById(@Param("id") Long id);
+
+    @Query(VIEW_SELECT + "order by p.id")
+    List<PlaceResponseDTO> findViewPage(Limit limit);
+
+    @Query(VIEW_SELECT + "where p.id > :after order by p.id")
+    List<PlaceResponseDTO> findViewPageAfter(@Param("after") Long after, Limit limit);
+
+    // O filtro de status repete o predicado de ex_booking_place_period para usar o índice GiST da constraint
+    @Query(nativeQuery = true, value = """
+        SELECT p.*
+        FROM place p
+        WHERE p.capacity >= :minCapacity
+          AND NOT EXISTS (
+            SELECT 1
+            FROM booking b
+            WHERE b.place_id = p.id
+              AND b.booking_status NOT IN ('CANCELLED', 'EXPIRED')
+              AND b.period && tsrange(:from, :to)
+          )
+        ORDER BY p.capacity, p.id
+        """)
+    List<Place> findAvailable(@Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to,
+                              @Param("minCapacity") int minCapacity);
+
+    // Mesmo predicado de ex_booking_place_period: espaço + período resolvidos pelo índice GiST
+    @Query(nativeQuery = true, value = """
+        SELECT b.event_date AS eventDate, b.date_end AS dateEnd
+        FROM booking b
+        WHERE b.place_id = :placeId
+          AND b.booking_status NOT IN ('CANCELLED', 'EXPIRED')
+          AND b.period && tsrange(:from, :to)
+        """)
+    List<BookedPeriod> findBookedPeriods(@Param("placeId") Long placeId,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
 }
@@ -1,18 +1,86 @@
 package io.github.devnicolas.api_agendamentos_festas.place;
 
+import io.github.devnicolas.api_agendamentos_festas.exception.ResourceNotFoundException;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
 import io.github.devnicolas.api_agendamentos_festas.interfaces.services.BaseServiceImpl;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.CrudMetrics;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.ViewCache;
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceOccupancyDTO;
 import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceRequestDTO;
 import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.place.occupancy.OccupancyCalendar;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
 @Service
-public class PlaceService extends BaseServiceImpl<Place, PlaceRequestDTO, Long> {
+public class PlaceService extends BaseServiceImpl<Place, PlaceRequestDTO, PlaceResponseDTO, Long> {
+
+    private final PlaceRepository placeRepository;
+    private final PlaceCatalogue placeCatalogue;
 
+    public PlaceService(PlaceRepository placeRepository,
+                        ViewCache<Long, PlaceResponseDTO> placeViewCache,
+                        PlaceCatalogue placeCatalogue,
+                        MeterRegistry meterRegistry) {
+        super(placeRepository, placeViewCache, CrudMetrics.of("place", meterRegistry));
+        this.placeRepository = placeRepository;
+        this.placeCatalogue = placeCatalogue;
+    }
 
-    public PlaceService(PlaceRepository placeRepository) {
-        super(placeRepository);
+    @Override
+    protected Place doCreate(PlaceRequestDTO dtoRequest) {
+        Place place = super.doCreate(dtoRequest);
+        placeCatalogue.invalidate();
+        return place;
     }
 
+    @Override
+    protected Place doUpdate(Long id, PlaceRequestDTO dto) {
+        Place place = super.doUpdate(id, dto);
+        placeCatalogue.invalidate();
+        return place;
+    }
+
+    @Override
+    protected void doDelete(Long id) {
+        super.doDelete(id);
+        placeCatalogue.invalidate();
+    }
+
+    public List<Place> findAvailable(LocalDateTime from, LocalDateTime to, int minCapacity) {
+        if (from == null || to == null) {
+            throw new ValidationException(List.of("Período de busca é obrigatório."));
+        }
+        if (!to.isAfter(from)) {
+            throw new ValidationException(List.of("A data final deve ser depois do início."));
+        }
+        return placeRepository.findAvailable(from, to, Math.max(minCapacity, 1));
+    }
+
+    /**
+     * Faixas de 15 minutos ocupadas por reservas ativas em cada dia do mês.
+     */
+    public PlaceOccupancyDTO occupancy(Long id, YearMonth month) {
+        return metrics.record("occupancy", () -> {
+            if (month == null) {
+                throw new ValidationException(List.of("Mês é obrigatório."));
+            }
+            // Existência vem do cache de views; as reservas saem numa única query pelo índice GiST
+            findViewById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Recurso não encontrado com o ID: " + id));
+
+            OccupancyCalendar calendar = new OccupancyCalendar(month);
+            placeRepository.findBookedPeriods(id, calendar.from(), calendar.to())
+                .forEach(period -> calendar.mark(period.getEventDate(), period.getDateEnd()));
+            return new PlaceOccupancyDTO(id, month, OccupancyCalendar.SLOT_MINUTES, calendar.encodeDays());
+        });
+    }
 
     @Override
     protected Place toEntity(PlaceRequestDTO dto) {
@@ -26,4 +94,21 @@ public class PlaceService extends BaseServiceImpl<Place, PlaceRequestDTO, Long>
         entity.setAddress(dto.address());
     }
 
+    @Override
+    protected Optional<PlaceResponseDTO> loadView(Long id) {
+        return placeRepository.findViewById(id);
+    }
+
+    @Override
+    protected List<PlaceResponseDTO> loadViewPage(Long after, Limit limit) {
+        return after == null
+            ? placeRepository.findViewPage(limit)
+            : placeRepository.findViewPageAfter(after, limit);
+    }
+
+    @Override
+    protected Long viewId(PlaceResponseDTO view) {
+        return view.id();
+    }
+
 }
@@ -0,0 +1,13 @@
+package io.github.devnicolas.api_agendamentos_festas.place.dtos;
+
+import java.time.YearMonth;
+import java.util.List;
+
+// days[0] é o dia 1; cada item é o bitmap em base64 das faixas de slotMinutes do dia (ver OccupancyCalendar)
+public record PlaceOccupancyDTO(
+        Long placeId,
+        YearMonth month,
+        int slotMinutes,
+        List<String> days
+) {
+}
@@ -0,0 +1,9 @@
+package io.github.devnicolas.api_agendamentos_festas.place.dtos;
+
+public record PlaceResponseDTO(
+        String name,
+        int capacity,
+        String address,
+        Long id
+) {
+}
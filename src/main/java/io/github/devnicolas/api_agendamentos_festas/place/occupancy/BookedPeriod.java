@@ -0,0 +1,11 @@
+package io.github.devnicolas.api_agendamentos_festas.place.occupancy;
+
+import java.time.LocalDateTime;
+
+// Projeção de PlaceRepository.findBookedPeriods: só o intervalo, sem montar a reserva
+public interface BookedPeriod {
+
+    LocalDateTime getEventDate();
+
+    LocalDateTime getDateEnd();
+}
@@ -0,0 +1,73 @@
+package io.github.devnicolas.api_agendamentos_festas.place.occupancy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Calendário de um espaço num mês, um bit por faixa de 15 minutos: o bit
+ * day * 96 + slot fica ligado se alguma reserva toca a faixa. Cada dia sai
+ * como 12 bytes em base64 (16 caracteres); o slot i é o bit i % 8 do byte
+ * i / 8, do menos significativo para o mais, como em BitSet.toByteArray.
+ */
+public class OccupancyCalendar {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private static final int BYTES_PER_DAY = SLOTS_PER_DAY / Byte.SIZE;
+    private static final long SLOT_SECONDS = SLOT_MINUTES * 60L;
+
+    private final LocalDateTime monthStart;
+    private final int days;
+    private final BitSet slots;
+
+    public OccupancyCalendar(YearMonth month) {
+        this.monthStart = month.atDay(1).atStartOfDay();
+        this.days = month.lengthOfMonth();
+        this.slots = new BitSet(days * SLOTS_PER_DAY);
+    }
+
+    public LocalDateTime from() {
+        return monthStart;
+    }
+
+    public LocalDateTime to() {
+        return monthStart.plusDays(days);
+    }
+
+    /**
+     * Marca as faixas tocadas por [start, end). Uma faixa ocupada em parte
+     * conta como ocupada; o que cai fora do mês é ignorado.
+     */
+    public void mark(LocalDateTime start, LocalDateTime end) {
+        long fromSeconds = Duration.between(monthStart, start).getSeconds();
+        long toSeconds = Duration.between(monthStart, end).getSeconds();
+        long first = Math.max(0, Math.floorDiv(fromSeconds, SLOT_SECONDS));
+        long last = Math.min((long) days * SLOTS_PER_DAY, -Math.floorDiv(-toSeconds, SLOT_SECONDS));
+        if (first < last) {
+            slots.set((int) first, (int) last);
+        }
+    }
+
+    public List<String> encodeDays() {
+        Base64.Encoder encoder = Base64.getEncoder();
+        List<String> encoded = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            long[] words = slots.get(day * SLOTS_PER_DAY, (day + 1) * SLOTS_PER_DAY).toLongArray();
+            byte[] bytes = new byte[BYTES_PER_DAY];
+            for (int i = 0; i < BYTES_PER_DAY; i++) {
+                int word = i / Long.BYTES;
+                if (word < words.length) {
+                    bytes[i] = (byte) (words[word] >>> (Byte.SIZE * (i % Long.BYTES)));
+                }
+            }
+            encoded.add(encoder.encodeToString(bytes));
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.devnicolas.api_agendamentos_festas.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Memoriza as authorities convertidas de cada Jwt. As chaves são fracas e
+ * comparadas por identidade: como o CachingJwtDecoder devolve a mesma
+ * instância para o mesmo token, a entrada vive enquanto o Jwt estiver no
+ * cache do decoder. O token de autenticação em si não é reaproveitado porque
+ * o Spring Security grava os detalhes da requisição nele.
+ */
+public class CachingGrantedAuthoritiesConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    private final Converter<Jwt, Collection<GrantedAuthority>> delegate;
+    private final Cache<Jwt, Collection<GrantedAuthority>> cache;
+
+    public CachingGrantedAuthoritiesConverter(Converter<Jwt, Collection<GrantedAuthority>> delegate, long maxSize) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(maxSize)
+            .build();
+    }
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        return cache.get(jwt, key -> List.copyOf(delegate.convert(key)));
+    }
+}
@@ -0,0 +1,210 @@
+package io.github.devnicolas.api_agendamentos_festas.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Chaves de assinatura carregadas na subida, sem ir ao issuer: primeiro o
+ * snapshot gravado pela última atualização, senão o arquivo JWKS de
+ * bootstrap. Uma thread de fundo busca o JWKS remoto a cada refreshInterval;
+ * se a busca falhar, as últimas chaves conhecidas continuam valendo. Um kid
+ * desconhecido (rotação no Keycloak) antecipa a próxima busca, sem bloquear a
+ * requisição.
+ */
+public class LocalJwkSource implements JWKSource<SecurityContext>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalJwkSource.class);
+
+    // Intervalo mínimo entre buscas disparadas por kid desconhecido
+    private static final long MIN_ON_DEMAND_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final Resource bootstrap;
+    private final Path snapshot;
+    private final URI refreshUri;
+    private final Duration refreshInterval;
+    private final HttpClient httpClient;
+    private final AtomicReference<JWKSet> keys = new AtomicReference<>();
+    private final AtomicLong lastAttempt = new AtomicLong(System.nanoTime() - MIN_ON_DEMAND_INTERVAL_NANOS);
+    private final Counter refreshed;
+    private final Counter failures;
+    private ScheduledExecutorService refresher;
+
+    public LocalJwkSource(Resource bootstrap, Path snapshot, URI refreshUri, Duration refreshInterval,
+                          MeterRegistry meterRegistry) {
+        this.bootstrap = bootstrap;
+        this.snapshot = snapshot;
+        this.refreshUri = refreshUri;
+        this.refreshInterval = refreshInterval;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        this.refreshed = Counter.builder("security.jwks.refresh")
+            .description("Atualizações do JWKS remoto")
+            .tag("result", "success")
+            .register(meterRegistry);
+        this.failures = Counter.builder("security.jwks.refresh")
+            .description("Atualizações do JWKS remoto")
+            .tag("result", "failure")
+            .register(meterRegistry);
+        Gauge.builder("security.jwks.keys", keys, ref -> ref.get() == null ? 0 : ref.get().getKeys().size())
+            .description("Chaves de assinatura em uso")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Carrega as chaves locais e agenda a atualização. Falha a subida só se não
+     * houver nem snapshot nem bootstrap legível.
+     */
+    public void start() {
+        JWKSet loaded = readSnapshot();
+        if (loaded == null) {
+            loaded = readBootstrap();
+        }
+        if (loaded == null) {
+            throw new IllegalStateException("Nenhum JWKS local disponível: configure security.jwt.jwks.location");
+        }
+        keys.set(loaded);
+
+        if (refreshUri != null) {
+            refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jwks-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = refreshInterval.toMillis();
+            refresher.scheduleWithFixedDelay(this::refresh, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        List<JWK> matches = jwkSelector.select(keys.get());
+        if (matches.isEmpty()) {
+            refreshSoon();
+        }
+        return matches;
+    }
+
+    /**
+     * Busca o JWKS remoto e troca as chaves. Em caso de erro mantém as atuais;
+     * nenhuma exceção escapa, senão o scheduleWithFixedDelay pararia de atualizar.
+     */
+    public boolean refresh() {
+        lastAttempt.set(System.nanoTime());
+        try {
+            HttpRequest request = HttpRequest.newBuilder(refreshUri)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            JWKSet fetched = JWKSet.parse(response.body());
+            if (fetched.getKeys().isEmpty()) {
+                throw new IOException("JWKS sem chaves");
+            }
+            keys.set(fetched);
+            writeSnapshot(fetched);
+            refreshed.increment();
+            return true;
+        } catch (IOException | ParseException | RuntimeException ex) {
+            failures.increment();
+            log.warn("Falha ao atualizar o JWKS de {}; mantendo as últimas chaves conhecidas: {}", refreshUri, ex.getMessage());
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failures.increment();
+            return false;
+        }
+    }
+
+    public JWKSet currentKeys() {
+        return keys.get();
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    private void refreshSoon() {
+        if (refresher == null) {
+            return;
+        }
+        long last = lastAttempt.get();
+        if (System.nanoTime() - last >= MIN_ON_DEMAND_INTERVAL_NANOS
+            && lastAttempt.compareAndSet(last, System.nanoTime())) {
+            refresher.execute(this::refresh);
+        }
+    }
+
+    private JWKSet readSnapshot() {
+        if (snapshot == null || !Files.isReadable(snapshot)) {
+            return null;
+        }
+        try {
+            return JWKSet.parse(Files.readString(snapshot, StandardCharsets.UTF_8));
+        } catch (IOException | ParseException ex) {
+            log.warn("Snapshot do JWKS em {} ilegível, usando o bootstrap: {}", snapshot, ex.getMessage());
+            return null;
+        }
+    }
+
+    private JWKSet readBootstrap() {
+        if (bootstrap == null || !bootstrap.exists()) {
+            return null;
+        }
+        try (InputStream in = bootstrap.getInputStream()) {
+            return JWKSet.load(in);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("JWKS de bootstrap inválido: " + bootstrap, ex);
+        }
+    }
+
+    // Só chaves públicas; grava num temporário e troca para não deixar snapshot pela metade
+    private void writeSnapshot(JWKSet jwkSet) {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            Path parent = snapshot.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "jwks", ".tmp");
+            Files.writeString(temp, jwkSet.toString(true), StandardCharsets.UTF_8);
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            log.warn("Não foi possível gravar o snapshot do JWKS em {}: {}", snapshot, ex.getMessage());
+        }
+    }
+}
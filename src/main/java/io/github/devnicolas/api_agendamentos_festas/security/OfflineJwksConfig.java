@@ -0,0 +1,75 @@
+package io.github.devnicolas.api_agendamentos_festas.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.util.StringUtils;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Com security.jwt.jwks.enabled=true o JwtDecoder valida com as chaves do
+ * {@link LocalJwkSource} em vez de fazer discovery no issuer-uri. A subida e a
+ * primeira requisição não dependem do Keycloak; o iss continua validado.
+ */
+@Configuration
+@ConditionalOnProperty(name = "security.jwt.jwks.enabled", havingValue = "true")
+public class OfflineJwksConfig {
+
+    @Bean(destroyMethod = "close")
+    public LocalJwkSource localJwkSource(
+            MeterRegistry meterRegistry,
+            ResourceLoader resourceLoader,
+            @Value("${security.jwt.jwks.location:}") String location,
+            @Value("${security.jwt.jwks.snapshot:}") String snapshot,
+            @Value("${security.jwt.jwks.refresh-uri:}") String refreshUri,
+            @Value("${security.jwt.jwks.refresh-interval:PT10M}") Duration refreshInterval) {
+        LocalJwkSource source = new LocalJwkSource(
+            StringUtils.hasText(location) ? resourceLoader.getResource(location) : null,
+            StringUtils.hasText(snapshot) ? Path.of(snapshot) : null,
+            StringUtils.hasText(refreshUri) ? URI.create(refreshUri) : null,
+            refreshInterval,
+            meterRegistry);
+        source.start();
+        return source;
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(
+            LocalJwkSource localJwkSource,
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuer,
+            @Value("${spring.security.oauth2.resourceserver.jwt.jws-algorithms:RS256}") List<String> algorithms) {
+        return decoder(localJwkSource, issuer, algorithms);
+    }
+
+    static NimbusJwtDecoder decoder(LocalJwkSource localJwkSource, String issuer, List<String> algorithms) {
+        Set<JWSAlgorithm> jwsAlgorithms = algorithms.stream()
+            .map(JWSAlgorithm::parse)
+            .collect(Collectors.toSet());
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(jwsAlgorithms, localJwkSource));
+        // exp, nbf e iss ficam com os validadores do Spring, como no decoder padrão
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+        return decoder;
+    }
+}
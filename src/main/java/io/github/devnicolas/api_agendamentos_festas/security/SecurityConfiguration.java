@@ -1,28 +1,41 @@
 package io.github.devnicolas.api_agendamentos_festas.security;
 
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.env.Environment;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 public class SecurityConfiguration {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           Converter<Jwt, AbstractAuthenticationToken> jwtAuthenticationConverter) throws Exception {
 
         http
                 .authorizeHttpRequests(auth -> auth
@@ -37,7 +50,7 @@ public class SecurityConfiguration {
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
                         .jwt(jwt -> jwt
-                                .jwtAuthenticationConverter(jwtAuthenticationConverter())
+                                .jwtAuthenticationConverter(jwtAuthenticationConverter)
                         )
                 )
                 .csrf(csrf -> csrf.disable());
@@ -47,28 +60,56 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public Converter<Jwt, AbstractAuthenticationToken> jwtAuthenticationConverter() {
+    public Converter<Jwt, AbstractAuthenticationToken> jwtAuthenticationConverter(
+            @Value("${security.jwt.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${security.jwt.cache.max-size:10000}") long maxSize) {
 
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        Converter<Jwt, Collection<GrantedAuthority>> realmRoles = SecurityConfiguration::realmRoles;
 
-        converter.setJwtGrantedAuthoritiesConverter(jwt -> {
+        converter.setJwtGrantedAuthoritiesConverter(cacheEnabled
+                ? new CachingGrantedAuthoritiesConverter(realmRoles, maxSize)
+                : realmRoles);
 
-            Map<String, Object> realmAccess = jwt.getClaim("realm_access");
+        return converter;
+    }
 
-            if (realmAccess == null || realmAccess.get("roles") == null) {
-                return List.of();
+    // Envolve o JwtDecoder do Boot (issuer-uri) ou qualquer outro definido na aplicação
+    @Bean
+    public static BeanPostProcessor cachingJwtDecoderPostProcessor(Environment environment,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        boolean enabled = environment.getProperty("security.jwt.cache.enabled", Boolean.class, true);
+        long maxSize = environment.getProperty("security.jwt.cache.max-size", Long.class, 10_000L);
+        Duration maxTtl = environment.getProperty("security.jwt.cache.max-ttl", Duration.class, Duration.ofMinutes(10));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof JwtDecoder decoder) || bean instanceof CachingJwtDecoder) {
+                    return bean;
+                }
+                return new CachingJwtDecoder(decoder, maxSize, maxTtl,
+                        meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
             }
+        };
+    }
 
-            List<String> roles = (List<String>) realmAccess.get("roles");
+    @SuppressWarnings("unchecked")
+    private static Collection<GrantedAuthority> realmRoles(Jwt jwt) {
 
-            return roles.stream()
-                    .filter(role -> role.equals("ADMIN") || role.equals("CLIENT"))
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
-                    .collect(Collectors.toList());
-        });
+        Map<String, Object> realmAccess = jwt.getClaim("realm_access");
 
-        return converter;
+        if (realmAccess == null || realmAccess.get("roles") == null) {
+            return List.of();
+        }
+
+        List<String> roles = (List<String>) realmAccess.get("roles");
+
+        return roles.stream()
+                .filter(role -> role.equals("ADMIN") || role.equals("CLIENT"))
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
+                .collect(Collectors.toList());
     }
+
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder(12);
@@ -0,0 +1,58 @@
+-- O trigger do V9 fazia upsert direto em booking_rollup e segurava o lock da
+-- linha do grupo até o commit. Escritas de várias linhas (chunks da expiração
+-- em várias instâncias, flush da timing wheel, inserts em lote) pegavam esses
+-- locks em ordem arbitrária e podiam entrar em deadlock entre si.
+--
+-- Agora o trigger só acrescenta deltas em booking_rollup_delta, sem disputar
+-- linha nenhuma. booking_rollup_fold() (agendado pela aplicação) soma os
+-- deltas no rollup, um fold por vez e em ordem de chave. Quem lê soma
+-- booking_rollup + booking_rollup_delta, então o total é exato a qualquer momento.
+CREATE TABLE booking_rollup_delta
+(
+    place_id       BIGINT         NOT NULL,
+    party_package  VARCHAR(50)    NOT NULL,
+    booking_status VARCHAR(50)    NOT NULL,
+    month          DATE           NOT NULL,
+    booking_count  BIGINT         NOT NULL,
+    total_value    NUMERIC(16, 2) NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION booking_rollup_apply(p_place_id BIGINT, p_package TEXT, p_status TEXT,
+                                                p_event_date TIMESTAMP, p_count BIGINT, p_value NUMERIC)
+    RETURNS VOID AS
+$$
+BEGIN
+    INSERT INTO booking_rollup_delta (place_id, party_package, booking_status, month, booking_count, total_value)
+    VALUES (p_place_id, p_package, p_status, date_trunc('month', p_event_date)::date, p_count, p_value);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Move os deltas visíveis para o rollup e devolve quantos grupos foram tocados.
+-- Deltas de transações ainda abertas não são vistos pelo DELETE e ficam para o próximo fold.
+CREATE OR REPLACE FUNCTION booking_rollup_fold() RETURNS BIGINT AS
+$$
+DECLARE
+    folded BIGINT;
+BEGIN
+    -- Um fold por vez entre todas as instâncias; quem chega junto pula a rodada
+    IF NOT pg_try_advisory_xact_lock(hashtext('booking_rollup_fold')) THEN
+        RETURN 0;
+    END IF;
+
+    WITH moved AS (
+        DELETE FROM booking_rollup_delta
+        RETURNING place_id, party_package, booking_status, month, booking_count, total_value
+    )
+    INSERT INTO booking_rollup AS r (place_id, party_package, booking_status, month, booking_count, total_value)
+    SELECT place_id, party_package, booking_status, month, sum(booking_count), sum(total_value)
+    FROM moved
+    GROUP BY place_id, party_package, booking_status, month
+    ORDER BY place_id, party_package, booking_status, month
+    ON CONFLICT (place_id, party_package, booking_status, month)
+        DO UPDATE SET booking_count = r.booking_count + EXCLUDED.booking_count,
+                      total_value   = r.total_value + EXCLUDED.total_value;
+
+    GET DIAGNOSTICS folded = ROW_COUNT;
+    RETURN folded;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,45 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- A coluna gerada e a constraint abaixo não sobem com dados inconsistentes.
+-- A migração não decide qual reserva perde o horário: se houver período
+-- invertido ou reservas ativas sobrepostas no mesmo espaço, ela aborta
+-- listando os ids para que a limpeza seja feita (e revisada) antes.
+DO
+$$
+DECLARE
+    invalid     TEXT;
+    overlapping TEXT;
+BEGIN
+    SELECT string_agg(id::text, ', ' ORDER BY id)
+    INTO invalid
+    FROM booking
+    WHERE event_date > date_end;
+
+    IF invalid IS NOT NULL THEN
+        RAISE EXCEPTION 'V5: reservas com event_date posterior a date_end: %', invalid;
+    END IF;
+
+    SELECT string_agg(a.id || ' x ' || b.id || ' (espaço ' || a.place_id || ')', ', ' ORDER BY a.id, b.id)
+    INTO overlapping
+    FROM booking a
+             JOIN booking b
+                  ON b.place_id = a.place_id
+                      AND b.id > a.id
+                      AND b.event_date < a.date_end
+                      AND a.event_date < b.date_end
+    WHERE a.booking_status NOT IN ('CANCELLED', 'EXPIRED')
+      AND b.booking_status NOT IN ('CANCELLED', 'EXPIRED');
+
+    IF overlapping IS NOT NULL THEN
+        RAISE EXCEPTION 'V5: reservas ativas sobrepostas no mesmo espaço: %', overlapping;
+    END IF;
+END
+$$;
+
+ALTER TABLE booking
+    ADD COLUMN period TSRANGE GENERATED ALWAYS AS (tsrange(event_date, date_end)) STORED;
+
+ALTER TABLE booking
+    ADD CONSTRAINT ex_booking_place_period
+    EXCLUDE USING gist (place_id WITH =, period WITH &&)
+    WHERE (booking_status NOT IN ('CANCELLED', 'EXPIRED'));
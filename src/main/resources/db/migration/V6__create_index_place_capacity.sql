@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_place_capacity ON place (capacity, id);
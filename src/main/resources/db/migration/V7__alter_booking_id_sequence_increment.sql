@@ -0,0 +1,2 @@
+-- Otimizador pooled do Hibernate (allocationSize = 50) para permitir insert em lote
+ALTER SEQUENCE booking_id_seq INCREMENT BY 50;
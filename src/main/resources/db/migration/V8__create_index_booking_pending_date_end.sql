@@ -0,0 +1,3 @@
+-- Índice parcial usado pelo job de expiração: cobre só as reservas PENDING
+CREATE INDEX IF NOT EXISTS idx_booking_pending_date_end ON booking (date_end, id)
+    WHERE booking_status = 'PENDING';
@@ -0,0 +1,65 @@
+-- Totais de reservas por espaço, pacote, status e mês do evento (GET /booking/stats).
+-- Mantidos por trigger em todo insert/update/delete de booking, inclusive os
+-- UPDATEs nativos da expiração e os inserts em lote; a consulta lê só esta tabela.
+CREATE TABLE booking_rollup
+(
+    place_id       BIGINT         NOT NULL,
+    party_package  VARCHAR(50)    NOT NULL,
+    booking_status VARCHAR(50)    NOT NULL,
+    month          DATE           NOT NULL,
+    booking_count  BIGINT         NOT NULL DEFAULT 0,
+    total_value    NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (place_id, party_package, booking_status, month)
+);
+
+CREATE OR REPLACE FUNCTION booking_rollup_apply(p_place_id BIGINT, p_package TEXT, p_status TEXT,
+                                                p_event_date TIMESTAMP, p_count BIGINT, p_value NUMERIC)
+    RETURNS VOID AS
+$$
+BEGIN
+    INSERT INTO booking_rollup AS r (place_id, party_package, booking_status, month, booking_count, total_value)
+    VALUES (p_place_id, p_package, p_status, date_trunc('month', p_event_date)::date, p_count, p_value)
+    ON CONFLICT (place_id, party_package, booking_status, month)
+        DO UPDATE SET booking_count = r.booking_count + EXCLUDED.booking_count,
+                      total_value   = r.total_value + EXCLUDED.total_value;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION booking_rollup_trigger() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM booking_rollup_apply(OLD.place_id, OLD.party_package::text, OLD.booking_status::text,
+                                     OLD.event_date, -1, -OLD.value);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM booking_rollup_apply(NEW.place_id, NEW.party_package::text, NEW.booking_status::text,
+                                     NEW.event_date, 1, NEW.value);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_booking_rollup_insert_delete
+    AFTER INSERT OR DELETE
+    ON booking
+    FOR EACH ROW
+EXECUTE FUNCTION booking_rollup_trigger();
+
+-- Só quando muda alguma dimensão ou o valor (ex.: troca de nome do cliente não mexe no rollup)
+CREATE TRIGGER trg_booking_rollup_update
+    AFTER UPDATE
+    ON booking
+    FOR EACH ROW
+    WHEN (OLD.place_id IS DISTINCT FROM NEW.place_id
+        OR OLD.party_package IS DISTINCT FROM NEW.party_package
+        OR OLD.booking_status IS DISTINCT FROM NEW.booking_status
+        OR OLD.value IS DISTINCT FROM NEW.value
+        OR date_trunc('month', OLD.event_date) IS DISTINCT FROM date_trunc('month', NEW.event_date))
+EXECUTE FUNCTION booking_rollup_trigger();
+
+-- Carga inicial a partir das reservas existentes
+INSERT INTO booking_rollup (place_id, party_package, booking_status, month, booking_count, total_value)
+SELECT place_id, party_package::text, booking_status::text, date_trunc('month', event_date)::date, count(*), sum(value)
+FROM booking
+GROUP BY 1, 2, 3, 4;
@@ -0,0 +1,134 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.booking.availability.AvailabilityIndex;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingBatchErrorDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingRequestDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.lock.StripedPlaceLock;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import io.github.devnicolas.api_agendamentos_festas.place.PlaceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes de Service para BookingBatchService (com Mockito)
+ *
+ * Valida APENAS:
+ * - Resolução dos espaços numa única consulta
+ * - Erros por item sem abortar o restante do lote
+ * - Divisão dos inserts em lotes
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingBatchService Tests")
+class BookingBatchServiceTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingChanges bookingChanges;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookingBatchService bookingBatchService;
+    private Place place;
+
+    @BeforeEach
+    void setUp() {
+        bookingBatchService = new BookingBatchService(
+            placeRepository,
+            new AvailabilityIndex(bookingRepository, "local"),
+            new StripedPlaceLock(16),
+            bookingChanges,
+            entityManager,
+            transactionManager,
+            2
+        );
+        place = mock(Place.class);
+        when(place.getId()).thenReturn(1L);
+    }
+
+    @Test
+    @DisplayName("Should report invalid items by index and insert the rest in batches")
+    void shouldReportInvalidItemsByIndexAndInsertTheRestInBatches() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.now().plusDays(10);
+        List<BookingRequestDTO> requests = List.of(
+            request(1L, base, base.plusHours(4)),
+            request(999L, base, base.plusHours(4)),
+            request(1L, base.plusHours(2), base.plusHours(6)),
+            request(1L, base.plusDays(1), base.plusDays(1).plusHours(4)),
+            request(1L, base.plusDays(2), base.plusDays(2).minusHours(1)),
+            request(1L, base.plusDays(3), base.plusDays(3).plusHours(4))
+        );
+        when(placeRepository.findAllById(any())).thenReturn(List.of(place));
+
+        // Act
+        BookingBatchService.Result result = bookingBatchService.createAll(requests);
+
+        // Assert
+        assertEquals(3, result.created().size());
+        assertEquals(List.of(1, 2, 4), result.errors().stream().map(BookingBatchErrorDTO::index).toList());
+        verify(placeRepository, times(1)).findAllById(any());
+        verify(entityManager, times(3)).persist(any(Booking.class));
+        verify(entityManager, times(2)).flush();
+    }
+
+    @Test
+    @DisplayName("Should retry a failed chunk item by item and reject only the conflicting row")
+    void shouldRetryAFailedChunkItemByItemAndRejectOnlyTheConflictingRow() {
+        // Arrange: o item 1 colide no banco com uma reserva gravada por outro nó
+        LocalDateTime base = LocalDateTime.now().plusDays(10);
+        List<BookingRequestDTO> requests = List.of(
+            request(1L, base, base.plusHours(4)),
+            request(1L, base.plusDays(1), base.plusDays(1).plusHours(4))
+        );
+        when(placeRepository.findAllById(any())).thenReturn(List.of(place));
+        PersistenceException exclusion = new PersistenceException("could not execute batch",
+            new SQLException("conflicting key value violates exclusion constraint", "23P01"));
+        doThrow(exclusion)
+            .doNothing()
+            .doThrow(exclusion)
+            .when(entityManager).flush();
+
+        // Act
+        BookingBatchService.Result result = bookingBatchService.createAll(requests);
+
+        // Assert
+        assertEquals(1, result.created().size());
+        assertEquals(base, result.created().get(0).getEventDate());
+        assertEquals(1, result.errors().size());
+        assertEquals(1, result.errors().get(0).index());
+        assertEquals(List.of("Espaço já reservado no período informado."), result.errors().get(0).errors());
+        verify(entityManager, times(4)).persist(any(Booking.class));
+        verify(entityManager, times(3)).flush();
+    }
+
+    private BookingRequestDTO request(Long placeId, LocalDateTime eventDate, LocalDateTime dateEnd) {
+        return new BookingRequestDTO(placeId, "Escola Municipal", new BigDecimal("900.00"),
+            PartyPackageEnum.SCHOOL_PARTY, eventDate, dateEnd);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.ViewCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do despacho de eventos de reserva (com Mockito)
+ *
+ * Valida APENAS:
+ * - Cada evento chegando a todos os listeners
+ * - Evict da view nas expirações, que não passam pelo BaseServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingChanges Tests")
+class BookingChangesTest {
+
+    @Mock
+    private ObjectProvider<BookingChangeListener> listeners;
+
+    @Mock
+    private BookingChangeListener index;
+
+    @Mock
+    private BookingChangeListener analytics;
+
+    @Mock
+    private ViewCache<Long, BookingResponseDTO> bookingViewCache;
+
+    private BookingChanges bookingChanges;
+
+    @BeforeEach
+    void setUp() {
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(index, analytics));
+        bookingChanges = new BookingChanges(listeners, bookingViewCache);
+    }
+
+    @Test
+    @DisplayName("Should deliver saved and removed events to every listener")
+    void shouldDeliverSavedAndRemovedEventsToEveryListener() {
+        // Arrange
+        Booking booking = mock(Booking.class);
+
+        // Act
+        bookingChanges.saved(booking);
+        bookingChanges.removed(7L);
+
+        // Assert
+        verify(index).saved(booking);
+        verify(analytics).saved(booking);
+        verify(index).removed(7L);
+        verify(analytics).removed(7L);
+        verifyNoInteractions(bookingViewCache);
+    }
+
+    @Test
+    @DisplayName("Should deliver expired events and evict the cached views")
+    void shouldDeliverExpiredEventsAndEvictTheCachedViews() {
+        // Act
+        bookingChanges.expired(List.of(1L, 2L));
+
+        // Assert
+        verify(index).expired(1L);
+        verify(index).expired(2L);
+        verify(analytics).expired(2L);
+        verify(bookingViewCache).evictAll(List.of(1L, 2L));
+    }
+}
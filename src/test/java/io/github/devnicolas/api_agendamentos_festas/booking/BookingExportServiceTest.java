@@ -0,0 +1,139 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes da exportação de reservas (com Mockito)
+ *
+ * Valida APENAS:
+ * - Cursor aberto dentro de uma transação somente leitura
+ * - Cada entidade solta do contexto logo depois de consumida
+ * - GET /booking/export em NDJSON: um objeto por linha, sem array em volta
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingExportService Tests")
+class BookingExportServiceTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookingExportService bookingExportService;
+    private Place place;
+    private Booking first;
+    private Booking second;
+
+    @BeforeEach
+    void setUp() {
+        bookingExportService = new BookingExportService(bookingRepository, entityManager, transactionManager);
+        place = mock(Place.class);
+        LocalDateTime eventDate = LocalDateTime.of(2030, 1, 10, 18, 0);
+        first = new Booking(place, "Maria", eventDate, new BigDecimal("500.00"), PartyPackageEnum.BASIC,
+            eventDate.plusHours(4));
+        second = new Booking(place, "João", eventDate.plusDays(1), new BigDecimal("300.00"), PartyPackageEnum.PREMIUM,
+            eventDate.plusDays(1).plusHours(4));
+    }
+
+    @Test
+    @DisplayName("Should stream inside a read-only transaction and close the cursor")
+    void shouldStreamInsideAReadOnlyTransactionAndCloseTheCursor() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        when(bookingRepository.streamAllByOrderByIdAsc())
+            .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+
+        // Act
+        bookingExportService.forEachBooking(booking -> { });
+
+        // Assert
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        InOrder inOrder = inOrder(transactionManager, bookingRepository);
+        inOrder.verify(transactionManager).getTransaction(definition.capture());
+        inOrder.verify(bookingRepository).streamAllByOrderByIdAsc();
+        inOrder.verify(transactionManager).commit(any());
+        assertTrue(definition.getValue().isReadOnly());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("Should detach each booking right after the consumer sees it")
+    @SuppressWarnings("unchecked")
+    void shouldDetachEachBookingRightAfterTheConsumerSeesIt() {
+        // Arrange
+        Consumer<Booking> consumer = mock(Consumer.class);
+        when(bookingRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(first, second));
+
+        // Act
+        bookingExportService.forEachBooking(consumer);
+
+        // Assert
+        InOrder inOrder = inOrder(consumer, entityManager);
+        inOrder.verify(consumer).accept(first);
+        inOrder.verify(entityManager).detach(first);
+        inOrder.verify(consumer).accept(second);
+        inOrder.verify(entityManager).detach(second);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line without an enclosing array")
+    void shouldWriteOneJsonObjectPerLineWithoutAnEnclosingArray() throws Exception {
+        // Arrange
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        BookingController controller = new BookingController(null, bookingExportService, null, null, null, objectMapper);
+        when(place.getId()).thenReturn(10L);
+        when(bookingRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(first, second));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.export();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        String body = out.toString(StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(BookingController.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertFalse(body.startsWith("["));
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        JsonNode firstLine = objectMapper.readTree(lines[0]);
+        JsonNode secondLine = objectMapper.readTree(lines[1]);
+        assertTrue(firstLine.isObject());
+        assertEquals("Maria", firstLine.get("clientName").asText());
+        assertEquals(10L, firstLine.get("placeId").asLong());
+        assertEquals("João", secondLine.get("clientName").asText());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+import io.github.devnicolas.api_agendamentos_festas.ApiAgendamentosFestasApplication;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import io.github.devnicolas.api_agendamentos_festas.place.PlaceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark de carga em GET /booking (mvn test -Pbenchmark)
+ *
+ * Sobe a aplicação duas vezes, com o pool de threads do Tomcat e com virtual
+ * threads + bulkhead do banco, e dispara CLIENTS clientes concorrentes contra
+ * a listagem paginada. Precisa do Postgres do docker-compose; o JWT é
+ * substituído por um decoder fixo e os dados semeados são apagados no fim.
+ */
+@Tag("benchmark")
+@DisplayName("Booking Read Load Benchmark")
+class BookingReadLoadBenchmarkTest {
+
+    private static final int CLIENTS = 1_000;
+    private static final long WARMUP_MILLIS = 3_000;
+    private static final long DURATION_MILLIS = 10_000;
+    private static final int PLACES = 10;
+    private static final int BOOKINGS_PER_PLACE = 200;
+    private static final String TOKEN = "benchmark";
+
+    private final List<Long> seededPlaces = new ArrayList<>();
+
+    @Test
+    @DisplayName("Platform threads vs virtual threads on /booking reads")
+    void platformThreadsVsVirtualThreadsOnBookingReads(TestReporter reporter) throws Exception {
+        Result platform;
+        try (ConfigurableApplicationContext context = start(false)) {
+            seed(context);
+            platform = load(context);
+        }
+
+        Result virtual;
+        try (ConfigurableApplicationContext context = start(true)) {
+            try {
+                virtual = load(context);
+            } finally {
+                cleanup(context);
+            }
+        }
+
+        reporter.publishEntry(Map.of(
+            "colunas", "req/s  p50 ms  p99 ms  erros",
+            "platform", platform.format(),
+            "virtual", virtual.format()));
+
+        assertTrue(platform.requests() > 0 && virtual.requests() > 0);
+        assertEquals(0, virtual.errors(), "com o bulkhead nenhuma requisição deveria estourar o checkout");
+    }
+
+    private ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(ApiAgendamentosFestasApplication.class, BenchmarkSecurity.class)
+            .properties(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.jpa.show-sql=false",
+                "spring.devtools.restart.enabled=false",
+                "booking.expiry.enabled=false")
+            .run();
+    }
+
+    private Result load(ConfigurableApplicationContext context) throws Exception {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        URI uri = URI.create("http://localhost:" + port + "/api/booking?limit=50");
+        HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .header("Authorization", "Bearer " + TOKEN)
+            .GET()
+            .build();
+
+        run(client, request, WARMUP_MILLIS, new ConcurrentLinkedQueue<>(), new AtomicLong());
+
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        run(client, request, DURATION_MILLIS, latencies, errors);
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return new Result(sorted.length, sorted.length * 1000.0 / DURATION_MILLIS,
+            percentile(sorted, 0.50), percentile(sorted, 0.99), errors.get());
+    }
+
+    private void run(HttpClient client, HttpRequest request, long millis,
+                     ConcurrentLinkedQueue<Long> latencies, AtomicLong errors) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                executor.submit(() -> {
+                    start.await();
+                    while (System.nanoTime() < deadline) {
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latencies.add(System.nanoTime() - begin);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        PlaceRepository placeRepository = context.getBean(PlaceRepository.class);
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+        LocalDateTime base = LocalDateTime.now().plusYears(5);
+        for (int p = 0; p < PLACES; p++) {
+            Place place = placeRepository.save(new Place("Salão benchmark " + p, 100, "Rua " + p));
+            seededPlaces.add(place.getId());
+            List<Booking> bookings = new ArrayList<>();
+            for (int i = 0; i < BOOKINGS_PER_PLACE; i++) {
+                LocalDateTime start = base.plusHours(i * 6L);
+                bookings.add(new Booking(place, "Cliente " + i, start,
+                    new BigDecimal("500.00"), PartyPackageEnum.BASIC, start.plusHours(4)));
+            }
+            bookingRepository.saveAll(bookings);
+        }
+    }
+
+    private void cleanup(ConfigurableApplicationContext context) {
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+        PlaceRepository placeRepository = context.getBean(PlaceRepository.class);
+        bookingRepository.deleteAll(bookingRepository.findAll().stream()
+            .filter(booking -> seededPlaces.contains(booking.getPlace().getId()))
+            .toList());
+        placeRepository.deleteAllById(seededPlaces);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private record Result(long requests, double throughput, double p50, double p99, long errors) {
+        String format() {
+            return String.format("%,.0f  %.2f  %.2f  %d", throughput, p50, p99, errors);
+        }
+    }
+
+    @TestConfiguration
+    static class BenchmarkSecurity {
+
+        @Bean
+        JwtDecoder jwtDecoder() {
+            return token -> Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .subject("benchmark")
+                .claim("realm_access", Map.of("roles", List.of("ADMIN")))
+                .build();
+        }
+    }
+}
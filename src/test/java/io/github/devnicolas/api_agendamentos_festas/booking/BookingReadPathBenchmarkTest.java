@@ -0,0 +1,105 @@
+package io.github.devnicolas.api_agendamentos_festas.booking;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import io.github.devnicolas.api_agendamentos_festas.place.PlaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark do caminho de leitura de agendamentos (mvn test -Pbenchmark)
+ *
+ * Compara a listagem via entidade + toResponseDTO com a projeção direta em
+ * BookingResponseDTO. Precisa do Postgres do docker-compose; os dados
+ * semeados são descartados no rollback.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+@DisplayName("Booking Read Path Benchmark")
+class BookingReadPathBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int PAGE = 500;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private BookingController bookingController;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Projection read path vs entity read path")
+    void projectionReadPathVsEntityReadPath(TestReporter reporter) {
+        seed();
+
+        Supplier<List<BookingResponseDTO>> entityPath = () -> {
+            List<BookingResponseDTO> page = bookingRepository.findAllByOrderByIdAsc(Limit.of(PAGE)).stream()
+                .map(bookingController::toResponseDTO)
+                .toList();
+            entityManager.clear();
+            return page;
+        };
+        Supplier<List<BookingResponseDTO>> projectionPath = () -> {
+            List<BookingResponseDTO> page = bookingRepository.findViewPage(Limit.of(PAGE));
+            entityManager.clear();
+            return page;
+        };
+
+        assertEquals(entityPath.get(), projectionPath.get());
+
+        measure(entityPath);
+        measure(projectionPath);
+        double entityMillis = measure(entityPath);
+        double projectionMillis = measure(projectionPath);
+
+        reporter.publishEntry(Map.of(
+            "entidade + toResponseDTO (ms/página)", String.format("%.3f", entityMillis),
+            "projeção em DTO (ms/página)", String.format("%.3f", projectionMillis)));
+    }
+
+    private double measure(Supplier<List<BookingResponseDTO>> path) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            path.get();
+        }
+        return (System.nanoTime() - start) / 1e6 / ITERATIONS;
+    }
+
+    private void seed() {
+        LocalDateTime base = LocalDateTime.now().plusYears(5);
+        for (int p = 0; p < 10; p++) {
+            Place place = placeRepository.save(new Place("Salão " + p, 100, "Rua " + p));
+            for (int i = 0; i < ROWS / 10; i++) {
+                LocalDateTime start = base.plusHours(i * 6L);
+                bookingRepository.save(new Booking(place, "Cliente " + i, start,
+                    new BigDecimal("500.00"), PartyPackageEnum.BASIC, start.plusHours(4)));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -1,16 +1,30 @@
 package io.github.devnicolas.api_agendamentos_festas.booking;
 
+import io.github.devnicolas.api_agendamentos_festas.booking.availability.AvailabilityIndex;
+import io.github.devnicolas.api_agendamentos_festas.booking.availability.BookingSlot;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
 import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingRequestDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.exceptions.BookingConflictException;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.KeysetPage;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.ViewCache;
+import io.github.devnicolas.api_agendamentos_festas.booking.lock.StripedPlaceLock;
 import io.github.devnicolas.api_agendamentos_festas.place.Place;
 import io.github.devnicolas.api_agendamentos_festas.place.PlaceRepository;
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -40,12 +54,21 @@ class BookingServiceTest {
     @Mock
     private PlaceRepository placeRepository;
 
+    @Mock
+    private BookingChanges bookingChanges;
+
+    private AvailabilityIndex availabilityIndex;
+    private ViewCache<Long, BookingResponseDTO> bookingViewCache;
     private BookingService bookingService;
     private Place testPlace;
 
     @BeforeEach
     void setUp() {
-        bookingService = new BookingService(bookingRepository, placeRepository);
+        availabilityIndex = new AvailabilityIndex(bookingRepository, "local");
+        bookingViewCache = ViewCache.of("booking", 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        bookingService = new BookingService(bookingRepository, placeRepository,
+            ViewCache.of("place", 100, Duration.ofMinutes(10), new SimpleMeterRegistry()), bookingViewCache,
+            availabilityIndex, new StripedPlaceLock(16), bookingChanges, new SimpleMeterRegistry());
         testPlace = new Place("Salão de Festas", 100, "Rua Principal, 123");
     }
 
@@ -67,7 +90,7 @@ class BookingServiceTest {
             dateEnd
         );
 
-        when(placeRepository.findById(1L)).thenReturn(Optional.of(testPlace));
+        stubPlace(1L);
         Booking expectedBooking = new Booking(
             testPlace,
             dto.clientName(),
@@ -84,8 +107,10 @@ class BookingServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals("João Silva", result.getClientName());
-        verify(placeRepository, times(1)).findById(1L);
+        verify(placeRepository, times(1)).findViewById(1L);
+        verify(placeRepository, never()).findById(1L);
         verify(bookingRepository, times(1)).save(any(Booking.class));
+        verify(bookingChanges, times(1)).saved(expectedBooking);
     }
 
     @Test
@@ -102,7 +127,7 @@ class BookingServiceTest {
             eventDate.plusHours(4)
         );
 
-        when(placeRepository.findById(999L)).thenReturn(Optional.empty());
+        when(placeRepository.findViewById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> bookingService.create(dto));
@@ -125,7 +150,7 @@ class BookingServiceTest {
             invalidDateEnd
         );
 
-        when(placeRepository.findById(1L)).thenReturn(Optional.of(testPlace));
+        stubPlace(1L);
 
         // Act & Assert - Verifica TANTO que exception é lançada QUANTO que não salva
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -135,6 +160,52 @@ class BookingServiceTest {
         verify(bookingRepository, never()).save(any(Booking.class));
     }
 
+    @Test
+    @DisplayName("Should throw conflict when place is already booked in the period")
+    void shouldThrowConflictWhenPlaceIsAlreadyBookedInThePeriod() {
+        // Arrange
+        LocalDateTime eventDate = LocalDateTime.now().plusDays(10);
+        when(bookingRepository.findSlotsEndingAfter(any(LocalDateTime.class), any()))
+            .thenReturn(List.of(new BookingSlot(7L, 1L, eventDate, eventDate.plusHours(4))));
+        availabilityIndex.load();
+
+        BookingRequestDTO dto = new BookingRequestDTO(
+            1L,
+            "João Silva",
+            new BigDecimal("500.00"),
+            PartyPackageEnum.BASIC,
+            eventDate.plusHours(2),
+            eventDate.plusHours(6)
+        );
+        stubPlace(1L);
+
+        // Act & Assert
+        assertThrows(BookingConflictException.class, () -> bookingService.create(dto));
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("Should map exclusion constraint violation to conflict on create")
+    void shouldMapExclusionConstraintViolationToConflictOnCreate() {
+        // Arrange
+        LocalDateTime eventDate = LocalDateTime.now().plusDays(10);
+        BookingRequestDTO dto = new BookingRequestDTO(
+            1L,
+            "João Silva",
+            new BigDecimal("500.00"),
+            PartyPackageEnum.BASIC,
+            eventDate,
+            eventDate.plusHours(4)
+        );
+        stubPlace(1L);
+        when(bookingRepository.save(any(Booking.class))).thenThrow(new DataIntegrityViolationException(
+            "conflicting key value violates exclusion constraint",
+            new SQLException("conflicting key value violates exclusion constraint \"ex_booking_place_period\"", "23P01")));
+
+        // Act & Assert
+        assertThrows(BookingConflictException.class, () -> bookingService.create(dto));
+    }
+
     // ============ FIND TESTS ============
 
     @Test
@@ -196,6 +267,65 @@ class BookingServiceTest {
         verify(bookingRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("Should read booking view through projection query")
+    void shouldReadBookingViewThroughProjectionQuery() {
+        // Arrange
+        LocalDateTime eventDate = LocalDateTime.now().plusDays(10);
+        BookingResponseDTO view = new BookingResponseDTO(3L, 1L, "João", BookingStatus.PENDING,
+            new BigDecimal("500.00"), PartyPackageEnum.BASIC, eventDate, eventDate.plusHours(4), eventDate);
+        when(bookingRepository.findViewPageAfter(2L, Limit.of(1))).thenReturn(List.of(view));
+
+        // Act
+        KeysetPage<BookingResponseDTO, Long> page = bookingService.findViewPage(2L, 1);
+
+        // Assert
+        assertEquals(List.of(view), page.items());
+        assertEquals(3L, page.nextCursor());
+        verify(bookingRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated booking polling from cache")
+    void shouldServeRepeatedBookingPollingFromCache() {
+        // Arrange
+        LocalDateTime eventDate = LocalDateTime.now().plusDays(10);
+        BookingResponseDTO view = new BookingResponseDTO(3L, 1L, "João", BookingStatus.PENDING,
+            new BigDecimal("500.00"), PartyPackageEnum.BASIC, eventDate, eventDate.plusHours(4), eventDate);
+        when(bookingRepository.findViewById(3L)).thenReturn(Optional.of(view));
+
+        // Act
+        bookingService.findViewById(3L);
+        Optional<BookingResponseDTO> result = bookingService.findViewById(3L);
+
+        // Assert
+        assertEquals(Optional.of(view), result);
+        verify(bookingRepository, times(1)).findViewById(3L);
+    }
+
+    @Test
+    @DisplayName("Should evict cached booking view on cancel")
+    void shouldEvictCachedBookingViewOnCancel() {
+        // Arrange
+        LocalDateTime eventDate = LocalDateTime.now().plusDays(10);
+        Booking booking = new Booking(testPlace, "João", eventDate, new BigDecimal("500.00"), PartyPackageEnum.BASIC, eventDate.plusHours(4));
+        BookingResponseDTO pending = new BookingResponseDTO(3L, 1L, "João", BookingStatus.PENDING,
+            new BigDecimal("500.00"), PartyPackageEnum.BASIC, eventDate, eventDate.plusHours(4), eventDate);
+        BookingResponseDTO cancelled = new BookingResponseDTO(3L, 1L, "João", BookingStatus.CANCELLED,
+            new BigDecimal("500.00"), PartyPackageEnum.BASIC, eventDate, eventDate.plusHours(4), eventDate);
+        when(bookingRepository.findViewById(3L)).thenReturn(Optional.of(pending)).thenReturn(Optional.of(cancelled));
+        when(bookingRepository.findById(3L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.save(booking)).thenReturn(booking);
+        bookingService.findViewById(3L);
+
+        // Act
+        bookingService.cancel(3L);
+
+        // Assert
+        assertEquals(BookingStatus.CANCELLED, bookingService.findViewById(3L).orElseThrow().bookingStatus());
+        verify(bookingRepository, times(2)).findViewById(3L);
+    }
+
     // ============ UPDATE TESTS ============
 
     @Test
@@ -215,7 +345,7 @@ class BookingServiceTest {
         );
 
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(existingBooking));
-        when(placeRepository.findById(1L)).thenReturn(Optional.of(testPlace));
+        stubPlace(1L);
         when(bookingRepository.save(any(Booking.class))).thenReturn(existingBooking);
 
         // Act
@@ -266,7 +396,7 @@ class BookingServiceTest {
         );
 
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(existingBooking));
-        when(placeRepository.findById(999L)).thenReturn(Optional.empty());
+        when(placeRepository.findViewById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> bookingService.update(bookingId, updateDto));
@@ -288,6 +418,7 @@ class BookingServiceTest {
         // Assert
         verify(bookingRepository, times(1)).existsById(bookingId);
         verify(bookingRepository, times(1)).deleteById(bookingId);
+        verify(bookingChanges, times(1)).removed(bookingId);
     }
 
     @Test
@@ -301,5 +432,10 @@ class BookingServiceTest {
         assertThrows(RuntimeException.class, () -> bookingService.delete(bookingId));
         verify(bookingRepository, never()).deleteById(bookingId);
     }
-}
 
+    private void stubPlace(Long placeId) {
+        when(placeRepository.findViewById(placeId))
+            .thenReturn(Optional.of(new PlaceResponseDTO("Salão de Festas", 100, "Rua Principal, 123", placeId)));
+        when(placeRepository.getReferenceById(placeId)).thenReturn(testPlace);
+    }
+}
@@ -0,0 +1,228 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.analytics;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Booking;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingPackageTicketDTO;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingWeekdayOccupancyDTO;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do snapshot colunar de reservas (com Mockito)
+ *
+ * Valida APENAS:
+ * - Agregações por dia da semana e por pacote sobre as colunas
+ * - Filtros de espaço, período e status
+ * - Atualização incremental (upsert, remoção, expiração)
+ *
+ * A carga a partir do banco (readAll) fica fora do escopo deste teste
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingAnalytics Tests")
+class BookingAnalyticsTest {
+
+    // 2030-01-07 é uma segunda-feira
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    private static final byte PENDING = (byte) BookingStatus.PENDING.ordinal();
+    private static final byte CONFIRMED = (byte) BookingStatus.CONFIRMED.ordinal();
+    private static final byte CANCELLED = (byte) BookingStatus.CANCELLED.ordinal();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookingAnalytics bookingAnalytics;
+
+    @BeforeEach
+    void setUp() {
+        bookingAnalytics = new BookingAnalytics(jdbcTemplate, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should count bookings by start weekday and split hours across midnight")
+    void shouldCountBookingsByStartWeekdayAndSplitHoursAcrossMidnight() {
+        // Arrange: sábado 20h até domingo 02h
+        LocalDateTime saturday = MONDAY.plusDays(5);
+        put(1L, 10L, saturday.plusHours(20), saturday.plusHours(26), CONFIRMED, PartyPackageEnum.BASIC, 100_00);
+        put(2L, 10L, MONDAY.plusHours(18), MONDAY.plusHours(22), PENDING, PartyPackageEnum.BASIC, 100_00);
+
+        // Act
+        List<BookingWeekdayOccupancyDTO> occupancy = bookingAnalytics.occupancyByWeekday(null, null, null, null);
+
+        // Assert
+        assertEquals(7, occupancy.size());
+        assertEquals(DayOfWeek.MONDAY, occupancy.get(0).dayOfWeek());
+        assertEquals(1, occupancy.get(0).count());
+        assertEquals(new BigDecimal("4.00"), occupancy.get(0).bookedHours());
+        assertEquals(1, occupancy.get(5).count());
+        assertEquals(new BigDecimal("4.00"), occupancy.get(5).bookedHours());
+        assertEquals(0, occupancy.get(6).count());
+        assertEquals(new BigDecimal("2.00"), occupancy.get(6).bookedHours());
+    }
+
+    @Test
+    @DisplayName("Should consider only pending and confirmed bookings by default")
+    void shouldConsiderOnlyPendingAndConfirmedBookingsByDefault() {
+        // Arrange
+        put(1L, 10L, MONDAY.plusHours(18), MONDAY.plusHours(20), CONFIRMED, PartyPackageEnum.BASIC, 100_00);
+        put(2L, 10L, MONDAY.plusHours(20), MONDAY.plusHours(22), CANCELLED, PartyPackageEnum.BASIC, 100_00);
+
+        // Act
+        long active = bookingAnalytics.occupancyByWeekday(null, null, null, null).get(0).count();
+        long cancelled = bookingAnalytics.occupancyByWeekday(null, null, null, Set.of(BookingStatus.CANCELLED))
+            .get(0).count();
+
+        // Assert
+        assertEquals(1, active);
+        assertEquals(1, cancelled);
+    }
+
+    @Test
+    @DisplayName("Should filter by place and by inclusive period of the start date")
+    void shouldFilterByPlaceAndByInclusivePeriodOfTheStartDate() {
+        // Arrange
+        put(1L, 10L, MONDAY.plusHours(18), MONDAY.plusHours(20), CONFIRMED, PartyPackageEnum.BASIC, 100_00);
+        put(2L, 20L, MONDAY.plusHours(18), MONDAY.plusHours(20), CONFIRMED, PartyPackageEnum.BASIC, 100_00);
+        put(3L, 10L, MONDAY.plusDays(7).plusHours(18), MONDAY.plusDays(7).plusHours(20), CONFIRMED,
+            PartyPackageEnum.BASIC, 100_00);
+        LocalDate monday = MONDAY.toLocalDate();
+
+        // Act
+        long placeTen = bookingAnalytics.occupancyByWeekday(10L, null, null, null).get(0).count();
+        long firstWeek = bookingAnalytics.occupancyByWeekday(null, monday, monday, null).get(0).count();
+        long unknownPlace = bookingAnalytics.occupancyByWeekday(99L, null, null, null).get(0).count();
+
+        // Assert
+        assertEquals(2, placeTen);
+        assertEquals(2, firstWeek);
+        assertEquals(0, unknownPlace);
+    }
+
+    @Test
+    @DisplayName("Should compute total and average ticket per package")
+    void shouldComputeTotalAndAverageTicketPerPackage() {
+        // Arrange
+        put(1L, 10L, MONDAY.plusHours(10), MONDAY.plusHours(12), CONFIRMED, PartyPackageEnum.PREMIUM, 1_000_00);
+        put(2L, 10L, MONDAY.plusHours(14), MONDAY.plusHours(16), PENDING, PartyPackageEnum.PREMIUM, 500_01);
+        put(3L, 10L, MONDAY.plusHours(18), MONDAY.plusHours(20), CONFIRMED, PartyPackageEnum.BASIC, 200_00);
+
+        // Act
+        List<BookingPackageTicketDTO> tickets = bookingAnalytics.averageTicketByPackage(null, null, null, null);
+
+        // Assert
+        assertEquals(2, tickets.size());
+        assertEquals(PartyPackageEnum.BASIC, tickets.get(0).partyPackage());
+        assertEquals(new BigDecimal("200.00"), tickets.get(0).averageValue());
+        assertEquals(PartyPackageEnum.PREMIUM, tickets.get(1).partyPackage());
+        assertEquals(2, tickets.get(1).count());
+        assertEquals(new BigDecimal("1500.01"), tickets.get(1).totalValue());
+        assertEquals(new BigDecimal("750.01"), tickets.get(1).averageValue());
+    }
+
+    @Test
+    @DisplayName("Should apply register, expiry and removal outside a transaction immediately")
+    void shouldApplyRegisterExpiryAndRemovalOutsideATransactionImmediately() {
+        // Arrange
+        Place place = mock(Place.class);
+        when(place.getId()).thenReturn(10L);
+        Booking booking = mock(Booking.class);
+        when(booking.getId()).thenReturn(1L);
+        when(booking.getPlace()).thenReturn(place);
+        when(booking.getEventDate()).thenReturn(MONDAY.plusHours(18));
+        when(booking.getDateEnd()).thenReturn(MONDAY.plusHours(20));
+        when(booking.getBookingStatus()).thenReturn(BookingStatus.PENDING);
+        when(booking.getPartyPackage()).thenReturn(PartyPackageEnum.STANDARD);
+        when(booking.getValue()).thenReturn(new BigDecimal("350.50"));
+
+        // Act
+        bookingAnalytics.register(booking);
+        List<BookingPackageTicketDTO> registered = bookingAnalytics.averageTicketByPackage(null, null, null, null);
+        bookingAnalytics.markExpired(1L);
+        List<BookingPackageTicketDTO> expired = bookingAnalytics.averageTicketByPackage(
+            null, null, null, Set.of(BookingStatus.EXPIRED));
+        bookingAnalytics.remove(1L);
+
+        // Assert
+        assertEquals(new BigDecimal("350.50"), registered.get(0).totalValue());
+        assertEquals(1, expired.get(0).count());
+        assertEquals(0, bookingAnalytics.columns().size());
+    }
+
+    @Test
+    @DisplayName("Should keep remaining rows intact when removing from the middle")
+    void shouldKeepRemainingRowsIntactWhenRemovingFromTheMiddle() {
+        // Arrange
+        put(1L, 10L, MONDAY.plusHours(10), MONDAY.plusHours(11), CONFIRMED, PartyPackageEnum.BASIC, 100_00);
+        put(2L, 10L, MONDAY.plusHours(12), MONDAY.plusHours(13), CONFIRMED, PartyPackageEnum.STANDARD, 200_00);
+        put(3L, 10L, MONDAY.plusHours(14), MONDAY.plusHours(15), CONFIRMED, PartyPackageEnum.PREMIUM, 300_00);
+
+        // Act
+        bookingAnalytics.columns().remove(1L);
+        bookingAnalytics.columns().changeStatus(3L, CANCELLED);
+        List<BookingPackageTicketDTO> tickets = bookingAnalytics.averageTicketByPackage(null, null, null, null);
+
+        // Assert
+        assertEquals(1, tickets.size());
+        assertEquals(PartyPackageEnum.STANDARD, tickets.get(0).partyPackage());
+        assertEquals(2, bookingAnalytics.columns().size());
+    }
+
+    @Test
+    @DisplayName("Should aggregate large snapshots with a parallel scan")
+    void shouldAggregateLargeSnapshotsWithAParallelScan() {
+        // Arrange
+        int rows = BookingColumns.PARALLEL_THRESHOLD * 3;
+        for (long id = 1; id <= rows; id++) {
+            LocalDateTime start = MONDAY.plusDays(id % 7).plusHours(18);
+            put(id, id % 5, start, start.plusHours(2), CONFIRMED, PartyPackageEnum.BASIC, 100_00);
+        }
+
+        // Act
+        List<BookingWeekdayOccupancyDTO> occupancy = bookingAnalytics.occupancyByWeekday(null, null, null, null);
+        List<BookingPackageTicketDTO> tickets = bookingAnalytics.averageTicketByPackage(null, null, null, null);
+
+        // Assert
+        assertEquals(rows, occupancy.stream().mapToLong(BookingWeekdayOccupancyDTO::count).sum());
+        assertEquals(rows, tickets.get(0).count());
+        assertEquals(new BigDecimal("100.00"), tickets.get(0).averageValue());
+    }
+
+    @Test
+    @DisplayName("Should reject period with from after to")
+    void shouldRejectPeriodWithFromAfterTo() {
+        LocalDate monday = MONDAY.toLocalDate();
+
+        assertThrows(ValidationException.class,
+            () -> bookingAnalytics.occupancyByWeekday(null, monday.plusDays(1), monday, null));
+    }
+
+    private void put(long id, long placeId, LocalDateTime start, LocalDateTime end, byte status,
+                     PartyPackageEnum partyPackage, long valueInCents) {
+        bookingAnalytics.columns().upsert(id, placeId, start.toEpochSecond(ZoneOffset.UTC),
+            end.toEpochSecond(ZoneOffset.UTC), status, (byte) partyPackage.ordinal(), valueInCents);
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.availability;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Booking;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingRepository;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do índice de disponibilidade (com Mockito)
+ *
+ * Valida APENAS:
+ * - Modo local: conflito resolvido na árvore em memória, sem banco
+ * - Modo advisory: conflito resolvido só no banco, sem consultar a árvore em memória
+ * - Sentinela 0 repassada quando não há reserva a excluir
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AvailabilityIndex Tests")
+class AvailabilityIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 10, 18, 0);
+    private static final LocalDateTime END = START.plusHours(4);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Test
+    @DisplayName("Should answer from memory without querying the database in local mode")
+    void shouldAnswerFromMemoryWithoutQueryingTheDatabaseInLocalMode() {
+        // Arrange
+        AvailabilityIndex index = new AvailabilityIndex(bookingRepository, "local");
+        index.register(activeBooking(1L, 10L));
+
+        // Act & Assert
+        assertTrue(index.hasConflict(10L, START.plusHours(1), END.plusHours(1), null));
+        assertFalse(index.hasConflict(10L, START.plusHours(1), END.plusHours(1), 1L));
+        verify(bookingRepository, never()).existsActiveOverlap(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should never consult the in-memory tree in advisory mode")
+    void shouldNeverConsultTheInMemoryTreeInAdvisoryMode() {
+        // Arrange: a reserva sobreposta passa pelo índice, mas o banco diz que o horário está livre
+        AvailabilityIndex index = new AvailabilityIndex(bookingRepository, "advisory");
+        index.register(activeBooking(1L, 10L));
+        when(bookingRepository.existsActiveOverlap(10L, START, END, 0L)).thenReturn(false);
+
+        // Act & Assert
+        assertFalse(index.hasConflict(10L, START, END, null));
+    }
+
+    @Test
+    @DisplayName("Should pass the no-exclusion sentinel to the database check")
+    void shouldPassTheNoExclusionSentinelToTheDatabaseCheck() {
+        // Arrange
+        AvailabilityIndex index = new AvailabilityIndex(bookingRepository, "advisory");
+        when(bookingRepository.existsActiveOverlap(eq(10L), eq(START), eq(END), anyLong())).thenReturn(true);
+
+        // Act
+        boolean conflict = index.hasConflict(10L, START, END, null);
+
+        // Assert
+        assertTrue(conflict);
+        verify(bookingRepository).existsActiveOverlap(10L, START, END, 0L);
+    }
+
+    @Test
+    @DisplayName("Should exclude the rescheduled booking from the database check")
+    void shouldExcludeTheRescheduledBookingFromTheDatabaseCheck() {
+        // Arrange
+        AvailabilityIndex index = new AvailabilityIndex(bookingRepository, "advisory");
+        when(bookingRepository.existsActiveOverlap(10L, START, END, 7L)).thenReturn(false);
+
+        // Act & Assert
+        assertFalse(index.hasConflict(10L, START, END, 7L));
+    }
+
+    // Lenient: no modo advisory o índice nem chega a ler a reserva
+    private static Booking activeBooking(Long id, Long placeId) {
+        Place place = mock(Place.class);
+        lenient().when(place.getId()).thenReturn(placeId);
+        Booking booking = mock(Booking.class);
+        lenient().when(booking.getId()).thenReturn(id);
+        lenient().when(booking.getPlace()).thenReturn(place);
+        lenient().when(booking.getBookingStatus()).thenReturn(BookingStatus.CONFIRMED);
+        lenient().when(booking.getEventDate()).thenReturn(START);
+        lenient().when(booking.getDateEnd()).thenReturn(END);
+        return booking;
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.availability;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da árvore de intervalos usada no índice de disponibilidade
+ * Sem Spring e sem Mockito
+ */
+@DisplayName("IntervalTree Tests")
+class IntervalTreeTest {
+
+    private IntervalTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new IntervalTree();
+    }
+
+    @Test
+    @DisplayName("Should detect overlapping interval")
+    void shouldDetectOverlappingInterval() {
+        tree.insert(1L, 100, 200);
+
+        assertTrue(tree.overlaps(150, 250, null));
+        assertTrue(tree.overlaps(50, 101, null));
+        assertTrue(tree.overlaps(120, 180, null));
+    }
+
+    @Test
+    @DisplayName("Should treat intervals as half-open")
+    void shouldTreatIntervalsAsHalfOpen() {
+        tree.insert(1L, 100, 200);
+
+        assertFalse(tree.overlaps(200, 300, null));
+        assertFalse(tree.overlaps(0, 100, null));
+    }
+
+    @Test
+    @DisplayName("Should ignore the interval being rescheduled")
+    void shouldIgnoreTheIntervalBeingRescheduled() {
+        tree.insert(1L, 100, 200);
+
+        assertFalse(tree.overlaps(150, 250, 1L));
+        assertTrue(tree.overlaps(150, 250, 2L));
+    }
+
+    @Test
+    @DisplayName("Should find long interval hidden behind shorter ones")
+    void shouldFindLongIntervalHiddenBehindShorterOnes() {
+        tree.insert(1L, 0, 1_000);
+        for (long i = 2; i < 100; i++) {
+            tree.insert(i, i * 10, i * 10 + 5);
+        }
+
+        assertTrue(tree.overlaps(996, 999, null));
+    }
+
+    @Test
+    @DisplayName("Should stop reporting overlap after removal")
+    void shouldStopReportingOverlapAfterRemoval() {
+        for (long i = 1; i <= 1_000; i++) {
+            tree.insert(i, i * 100, i * 100 + 50);
+        }
+
+        assertTrue(tree.remove(500L, 50_000));
+        assertFalse(tree.remove(500L, 50_000));
+
+        assertEquals(999, tree.size());
+        assertFalse(tree.overlaps(50_000, 50_050, null));
+        assertTrue(tree.overlaps(50_100, 50_110, null));
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.expiry;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingChanges;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do job de expiração (com Mockito)
+ *
+ * Valida APENAS:
+ * - Repetição dos UPDATEs em lotes até esgotar
+ * - Aviso das reservas expiradas aos listeners, um por lote
+ * - Métricas publicadas por execução
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingExpiryJob Tests")
+class BookingExpiryJobTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingChanges bookingChanges;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private BookingExpiryJob bookingExpiryJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bookingExpiryJob = new BookingExpiryJob(bookingRepository, bookingChanges, transactionManager,
+            meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("Should expire in chunks until a partial chunk is returned")
+    void shouldExpireInChunksUntilAPartialChunkIsReturned() {
+        // Arrange
+        when(bookingRepository.expirePendingEndedBefore(any(LocalDateTime.class), eq(2)))
+            .thenReturn(List.of(1L, 2L))
+            .thenReturn(List.of(3L));
+
+        // Act
+        int expired = bookingExpiryJob.expirePending();
+
+        // Assert
+        assertEquals(3, expired);
+        verify(bookingRepository, times(2)).expirePendingEndedBefore(any(LocalDateTime.class), eq(2));
+        verify(bookingChanges).expired(List.of(1L, 2L));
+        verify(bookingChanges).expired(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("Should publish expired rows and run duration")
+    void shouldPublishExpiredRowsAndRunDuration() {
+        // Arrange
+        when(bookingRepository.expirePendingEndedBefore(any(LocalDateTime.class), eq(2)))
+            .thenReturn(List.of(7L));
+
+        // Act
+        bookingExpiryJob.run();
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("booking.expiry.expired").counter().count());
+        assertEquals(1.0, meterRegistry.get("booking.expiry.last.run.expired").gauge().value());
+        assertEquals(1, meterRegistry.get("booking.expiry.run").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should run a single cheap statement when nothing is stale")
+    void shouldRunASingleStatementWhenNothingIsStale() {
+        // Arrange
+        when(bookingRepository.expirePendingEndedBefore(any(LocalDateTime.class), eq(2)))
+            .thenReturn(List.of());
+
+        // Act
+        int expired = bookingExpiryJob.expirePending();
+
+        // Assert
+        assertEquals(0, expired);
+        verify(bookingRepository, times(1)).expirePendingEndedBefore(any(LocalDateTime.class), eq(2));
+        verify(bookingChanges).expired(List.of());
+    }
+}
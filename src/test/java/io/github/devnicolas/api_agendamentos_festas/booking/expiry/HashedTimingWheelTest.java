@@ -0,0 +1,97 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.expiry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da timing wheel usada na expiração de reservas PENDING
+ * Sem Spring e sem Mockito
+ */
+@DisplayName("HashedTimingWheel Tests")
+class HashedTimingWheelTest {
+
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel(1000, 8, 0);
+    }
+
+    @Test
+    @DisplayName("Should fire only once the deadline has passed")
+    void shouldFireOnlyOnceTheDeadlineHasPassed() {
+        wheel.schedule(1L, 2500);
+
+        assertEquals(List.of(), advance(2999));
+        assertEquals(List.of(1L), advance(3000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should keep deadlines beyond one rotation until their round")
+    void shouldKeepDeadlinesBeyondOneRotationUntilTheirRound() {
+        wheel.schedule(1L, 3000);
+        wheel.schedule(2L, 11000);
+
+        assertEquals(List.of(1L), advance(3000));
+        assertEquals(List.of(), advance(10999));
+        assertEquals(List.of(2L), advance(11000));
+    }
+
+    @Test
+    @DisplayName("Should not fire cancelled entries")
+    void shouldNotFireCancelledEntries() {
+        wheel.schedule(1L, 2000);
+        wheel.schedule(2L, 2000);
+
+        assertTrue(wheel.cancel(1L));
+        assertFalse(wheel.cancel(1L));
+        assertEquals(List.of(2L), advance(5000));
+    }
+
+    @Test
+    @DisplayName("Should move a rescheduled entry to its new deadline")
+    void shouldMoveARescheduledEntryToItsNewDeadline() {
+        wheel.schedule(1L, 2000);
+        wheel.schedule(1L, 6000);
+
+        assertEquals(List.of(), advance(5000));
+        assertEquals(List.of(1L), advance(6000));
+    }
+
+    @Test
+    @DisplayName("Should fire past deadlines on the next tick")
+    void shouldFirePastDeadlinesOnTheNextTick() {
+        advance(5000);
+        wheel.schedule(1L, 1000);
+
+        assertEquals(List.of(), advance(5999));
+        assertEquals(List.of(1L), advance(6000));
+    }
+
+    @Test
+    @DisplayName("Should fire everything due after a jump longer than the wheel")
+    void shouldFireEverythingDueAfterAJumpLongerThanTheWheel() {
+        for (long id = 1; id <= 20; id++) {
+            wheel.schedule(id, id * 1000);
+        }
+        wheel.schedule(99L, 100_000);
+
+        List<Long> expired = advance(20_000);
+
+        assertEquals(20, expired.size());
+        assertTrue(wheel.contains(99L));
+    }
+
+    private List<Long> advance(long nowMillis) {
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(nowMillis, expired);
+        return expired;
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.expiry;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Booking;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingChanges;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingRepository;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes da timing wheel de expiração (com Mockito)
+ *
+ * Valida APENAS:
+ * - Um lote com falha inesperada não derruba o tick nem os lotes seguintes
+ *
+ * O ticker não é iniciado; o teste chama tick() diretamente
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PendingExpiryWheel Tests")
+class PendingExpiryWheelTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingChanges bookingChanges;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private PendingExpiryWheel pendingExpiryWheel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pendingExpiryWheel = new PendingExpiryWheel(bookingRepository, bookingChanges, transactionManager,
+            meterRegistry, Duration.ofMillis(1), 64, 1);
+    }
+
+    @Test
+    @DisplayName("Should count an unexpected failure and keep flushing the next batches")
+    void shouldCountAnUnexpectedFailureAndKeepFlushingTheNextBatches() throws InterruptedException {
+        // Arrange
+        pendingExpiryWheel.track(pendingEndedAt(1L, LocalDateTime.now().minusMinutes(1)));
+        pendingExpiryWheel.track(pendingEndedAt(2L, LocalDateTime.now().minusMinutes(1)));
+        when(bookingRepository.expirePendingByIds(eq(List.of(1L)), any(LocalDateTime.class)))
+            .thenThrow(new IllegalStateException("mapeamento inesperado"));
+        when(bookingRepository.expirePendingByIds(eq(List.of(2L)), any(LocalDateTime.class)))
+            .thenReturn(List.of(2L));
+        Thread.sleep(5);
+
+        // Act
+        assertDoesNotThrow(() -> pendingExpiryWheel.tick());
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("booking.expiry.wheel.failures").counter().count());
+        assertEquals(1.0, meterRegistry.get("booking.expiry.wheel.expired").counter().count());
+        verify(bookingChanges).expired(List.of(2L));
+        verify(bookingChanges, never()).expired(List.of(1L));
+    }
+
+    private static Booking pendingEndedAt(Long id, LocalDateTime dateEnd) {
+        Booking booking = mock(Booking.class);
+        when(booking.getId()).thenReturn(id);
+        when(booking.getBookingStatus()).thenReturn(BookingStatus.PENDING);
+        when(booking.getDateEnd()).thenReturn(dateEnd);
+        return booking;
+    }
+}
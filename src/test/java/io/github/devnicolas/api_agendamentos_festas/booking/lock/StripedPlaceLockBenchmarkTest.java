@@ -0,0 +1,91 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.lock;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.availability.IntervalTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark de contenção do lock listrado (mvn test -Pbenchmark)
+ *
+ * Simula o trecho check-then-insert do BookingService: checagem na árvore de
+ * intervalos do espaço seguida de um insert de ~200µs. Mede a vazão com
+ * 16 threads escrevendo em 1, 4, 16 e 64 espaços distintos.
+ */
+@Tag("benchmark")
+@DisplayName("StripedPlaceLock Contention Benchmark")
+class StripedPlaceLockBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final long INSERT_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final long DURATION_MILLIS = 1_000;
+
+    @Test
+    @DisplayName("Throughput should scale with the number of distinct places")
+    void throughputShouldScaleWithTheNumberOfDistinctPlaces(TestReporter reporter) throws Exception {
+        run(4); // aquecimento
+
+        double single = run(1);
+        Map<String, String> results = new LinkedHashMap<>();
+        results.put("places=1", String.format("%,.0f ops/s", single));
+        double sixteen = 0;
+        for (int places : new int[]{4, 16, 64}) {
+            double throughput = run(places);
+            if (places == 16) sixteen = throughput;
+            results.put("places=" + places, String.format("%,.0f ops/s", throughput));
+        }
+        reporter.publishEntry(results);
+
+        assertTrue(sixteen > single * 4, "vazão com 16 espaços deveria superar 4x a de um espaço");
+    }
+
+    private double run(int places) throws Exception {
+        StripedPlaceLock lock = new StripedPlaceLock(64);
+        ConcurrentHashMap<Long, IntervalTree> trees = new ConcurrentHashMap<>();
+        AtomicLong operations = new AtomicLong();
+        AtomicLong ids = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            long placeId = (t % places) + 1L;
+            executor.submit(() -> {
+                start.await();
+                while (System.nanoTime() < deadline) {
+                    long id = ids.incrementAndGet();
+                    lock.execute(List.of(placeId), () -> {
+                        IntervalTree tree = trees.computeIfAbsent(placeId, key -> new IntervalTree());
+                        if (!tree.overlaps(id * 10, id * 10 + 5, null)) {
+                            LockSupport.parkNanos(INSERT_NANOS);
+                            tree.insert(id, id * 10, id * 10 + 5);
+                        }
+                        return null;
+                    });
+                    operations.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(DURATION_MILLIS * 5, TimeUnit.MILLISECONDS);
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        return operations.get() / seconds;
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do lock listrado por espaço
+ * Sem Spring e sem Mockito
+ */
+@DisplayName("StripedPlaceLock Tests")
+class StripedPlaceLockTest {
+
+    @Test
+    @DisplayName("Should round stripe count up to a power of two")
+    void shouldRoundStripeCountUpToAPowerOfTwo() {
+        assertEquals(64, new StripedPlaceLock(64).stripeCount());
+        assertEquals(128, new StripedPlaceLock(100).stripeCount());
+        assertEquals(1, new StripedPlaceLock(1).stripeCount());
+    }
+
+    @Test
+    @DisplayName("Should serialize writers of the same place")
+    void shouldSerializeWritersOfTheSamePlace() throws Exception {
+        // Arrange
+        StripedPlaceLock lock = new StripedPlaceLock(16);
+        int[] counter = {0};
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    lock.execute(List.of(42L), () -> counter[0]++);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(80_000, counter[0]);
+    }
+
+    @Test
+    @DisplayName("Should release stripes when action throws")
+    void shouldReleaseStripesWhenActionThrows() {
+        // Arrange
+        StripedPlaceLock lock = new StripedPlaceLock(16);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> lock.execute(List.of(1L, 2L), () -> {
+            throw new IllegalStateException();
+        }));
+
+        // Assert
+        assertEquals("ok", lock.execute(List.of(1L, 2L), () -> "ok"));
+    }
+}
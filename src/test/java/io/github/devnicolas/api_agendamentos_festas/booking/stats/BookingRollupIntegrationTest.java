@@ -0,0 +1,131 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.stats;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Booking;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingRepository;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.BookingStatus;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingStatsDTO;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import io.github.devnicolas.api_agendamentos_festas.place.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Aritmética do rollup de reservas (com Spring + Postgres)
+ *
+ * Valida APENAS:
+ * - Deltas gravados pelo trigger em insert, mudança de status, de valor e delete
+ * - Mesmo total antes e depois do fold, com booking_rollup_delta esvaziada
+ *
+ * Tudo roda na transação do teste e é desfeito no rollback.
+ */
+@SpringBootTest(properties = {
+    "booking.cache.enabled=false",
+    "booking.expiry.enabled=false"
+})
+@Transactional
+@DisplayName("Booking Rollup Integration Tests")
+class BookingRollupIntegrationTest {
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingStatsService bookingStatsService;
+
+    @Autowired
+    private BookingRollupFolder bookingRollupFolder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Place place;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        // Dia 10 às 10h: todas as reservas do teste caem no mesmo mês do rollup
+        base = LocalDate.now().plusYears(5).withDayOfMonth(10).atTime(10, 0);
+        place = placeRepository.save(new Place("Salão Rollup", 100, "Rua C, 789"));
+    }
+
+    @Test
+    @DisplayName("Should move count and value between statuses and drop deleted bookings")
+    void shouldMoveCountAndValueBetweenStatusesAndDropDeletedBookings() {
+        // Arrange
+        Booking confirmed = bookingRepository.saveAndFlush(new Booking(place, "Maria", base,
+            new BigDecimal("500.00"), PartyPackageEnum.BASIC, base.plusHours(4)));
+        bookingRepository.saveAndFlush(new Booking(place, "João", base.plusDays(1),
+            new BigDecimal("300.00"), PartyPackageEnum.BASIC, base.plusDays(1).plusHours(4)));
+        Booking deleted = bookingRepository.saveAndFlush(new Booking(place, "Ana", base.plusDays(2),
+            new BigDecimal("200.00"), PartyPackageEnum.BASIC, base.plusDays(2).plusHours(4)));
+
+        // Act
+        confirmed.confirm();
+        confirmed.changeValue(new BigDecimal("650.00"));
+        bookingRepository.saveAndFlush(confirmed);
+        bookingRepository.delete(deleted);
+        bookingRepository.flush();
+
+        // Assert: PENDING 3 -> 2 -> 1 (só João); CONFIRMED recebe Maria com o valor novo
+        Map<BookingStatus, BookingStatsDTO> byStatus = statsOfPlace();
+        assertEquals(2, byStatus.size());
+        assertEquals(1, byStatus.get(BookingStatus.PENDING).count());
+        assertEquals(0, new BigDecimal("300.00").compareTo(byStatus.get(BookingStatus.PENDING).totalValue()));
+        assertEquals(1, byStatus.get(BookingStatus.CONFIRMED).count());
+        assertEquals(0, new BigDecimal("650.00").compareTo(byStatus.get(BookingStatus.CONFIRMED).totalValue()));
+    }
+
+    @Test
+    @DisplayName("Should keep the same totals after folding the deltas into the rollup")
+    void shouldKeepTheSameTotalsAfterFoldingTheDeltasIntoTheRollup() {
+        // Arrange
+        Booking booking = bookingRepository.saveAndFlush(new Booking(place, "Maria", base,
+            new BigDecimal("500.00"), PartyPackageEnum.PREMIUM, base.plusHours(4)));
+        booking.cancel();
+        bookingRepository.saveAndFlush(booking);
+        bookingRepository.saveAndFlush(new Booking(place, "João", base.plusDays(1),
+            new BigDecimal("300.00"), PartyPackageEnum.PREMIUM, base.plusDays(1).plusHours(4)));
+        Map<BookingStatus, BookingStatsDTO> beforeFold = statsOfPlace();
+
+        // Act
+        long folded = bookingRollupFolder.fold();
+
+        // Assert
+        assertTrue(folded > 0);
+        assertEquals(0, countRows("booking_rollup_delta"));
+        assertEquals(beforeFold, statsOfPlace());
+        // O grupo PENDING zerado (+1 -1) fica no rollup e é filtrado pelo HAVING
+        assertEquals(3, countRows("booking_rollup"));
+        assertEquals(1, beforeFold.get(BookingStatus.CANCELLED).count());
+        assertEquals(1, beforeFold.get(BookingStatus.PENDING).count());
+    }
+
+    private Map<BookingStatus, BookingStatsDTO> statsOfPlace() {
+        return bookingStatsService.stats(List.of("place", "status")).stream()
+            .filter(stats -> place.getId().equals(stats.placeId()))
+            .collect(Collectors.toMap(BookingStatsDTO::bookingStatus, stats -> stats));
+    }
+
+    private long countRows(String table) {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM " + table + " WHERE place_id = ?", Long.class, place.getId());
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.devnicolas.api_agendamentos_festas.booking.stats;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.dtos.BookingStatsDTO;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes de Service para BookingStatsService (com Mockito)
+ *
+ * Valida APENAS:
+ * - Tradução do groupBy para colunas do booking_rollup (rollup + deltas pendentes)
+ * - Rejeição de dimensões desconhecidas antes de montar o SQL
+ *
+ * A aritmética do trigger e do fold fica em BookingRollupIntegrationTest
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingStatsService Tests")
+class BookingStatsServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private BookingStatsService bookingStatsService;
+
+    @BeforeEach
+    void setUp() {
+        bookingStatsService = new BookingStatsService(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should group by requested dimensions in order")
+    void shouldGroupByRequestedDimensionsInOrder() {
+        // Arrange
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.query(sql.capture(), ArgumentMatchers.<RowMapper<BookingStatsDTO>>any())).thenReturn(List.of());
+
+        // Act
+        List<BookingStatsDTO> stats = bookingStatsService.stats(List.of("month", " Status ", "month"));
+
+        // Assert
+        assertTrue(stats.isEmpty());
+        assertTrue(sql.getValue().contains("FROM booking_rollup UNION ALL"));
+        assertTrue(sql.getValue().contains("FROM booking_rollup_delta) rollup GROUP BY month, booking_status"));
+        assertTrue(sql.getValue().contains("ORDER BY month, booking_status"));
+    }
+
+    @Test
+    @DisplayName("Should return grand total without groupBy")
+    void shouldReturnGrandTotalWithoutGroupBy() {
+        // Arrange
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.query(sql.capture(), ArgumentMatchers.<RowMapper<BookingStatsDTO>>any())).thenReturn(List.of());
+
+        // Act
+        bookingStatsService.stats(null);
+
+        // Assert
+        assertFalse(sql.getValue().contains("GROUP BY"));
+        assertTrue(sql.getValue().contains("FROM booking_rollup_delta) rollup"));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown dimension without querying")
+    void shouldRejectUnknownDimensionWithoutQuerying() {
+        assertThrows(ValidationException.class, () -> bookingStatsService.stats(List.of("place", "client_name; drop")));
+        verify(jdbcTemplate, never()).query(anyString(), ArgumentMatchers.<RowMapper<BookingStatsDTO>>any());
+    }
+}
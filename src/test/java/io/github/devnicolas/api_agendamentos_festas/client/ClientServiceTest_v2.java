@@ -1,6 +1,8 @@
 package io.github.devnicolas.api_agendamentos_festas.client;
 
 import io.github.devnicolas.api_agendamentos_festas.client.dtos.ClientRequestDTO;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.ViewCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,7 +43,7 @@ class ClientServiceTest {
 
     @BeforeEach
     void setUp() {
-        clientService = new ClientService(clientRepository, bCryptPasswordEncoder);
+        clientService = new ClientService(clientRepository, bCryptPasswordEncoder, ViewCache.disabled(), new SimpleMeterRegistry());
     }
 
     // ============ CREATE TESTS ============
@@ -0,0 +1,84 @@
+package io.github.devnicolas.api_agendamentos_festas.config.bulkhead;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do bulkhead na frente do pool de conexões (com Mockito)
+ *
+ * Valida APENAS:
+ * - Permissão presa enquanto a conexão está aberta
+ * - Devolução única no close()
+ * - Falha rápida quando o bulkhead está esgotado
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkheadDataSource Tests")
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private BulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new BulkheadDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Should hold a permit until the connection is closed once")
+    void shouldHoldAPermitUntilTheConnectionIsClosedOnce() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+
+        // Act
+        Connection first = bulkhead.getConnection();
+        assertEquals(1, bulkhead.availablePermits());
+        first.close();
+        first.close();
+
+        // Assert
+        assertEquals(2, bulkhead.availablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Should time out when every permit is in use")
+    void shouldTimeOutWhenEveryPermitIsInUse() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        bulkhead.getConnection();
+        bulkhead.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, () -> bulkhead.getConnection());
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the pool fails")
+    void shouldReleaseThePermitWhenThePoolFails() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool"));
+
+        // Act & Assert
+        assertThrows(SQLException.class, () -> bulkhead.getConnection());
+        assertEquals(2, bulkhead.availablePermits());
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.devnicolas.api_agendamentos_festas.config.sql;
+
+import io.github.devnicolas.api_agendamentos_festas.booking.Booking;
+import io.github.devnicolas.api_agendamentos_festas.booking.BookingRepository;
+import io.github.devnicolas.api_agendamentos_festas.booking.Enums.PartyPackageEnum;
+import io.github.devnicolas.api_agendamentos_festas.client.Client;
+import io.github.devnicolas.api_agendamentos_festas.client.ClientRepository;
+import io.github.devnicolas.api_agendamentos_festas.place.Place;
+import io.github.devnicolas.api_agendamentos_festas.place.PlaceCatalogue;
+import io.github.devnicolas.api_agendamentos_festas.place.PlaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static io.github.devnicolas.api_agendamentos_festas.config.sql.SqlStatementCounts.statements;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Quantidade de statements SQL dos endpoints de leitura (com Spring + Postgres)
+ *
+ * Valida APENAS:
+ * - Listagens e buscas por id em uma única query, sem N+1 pelo Booking.place
+ *
+ * Os caches de leitura ficam desligados para toda requisição ir ao banco.
+ */
+@SpringBootTest(properties = {
+    "sql.stats.headers=true",
+    "booking.cache.enabled=false",
+    "place.cache.enabled=false",
+    "client.cache.enabled=false",
+    "booking.expiry.enabled=false"
+})
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("SQL Statement Count Tests")
+class SqlStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PlaceCatalogue placeCatalogue;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Place place;
+    private Booking booking;
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = LocalDateTime.now().plusYears(5);
+        place = placeRepository.save(new Place("Salão Azul", 100, "Rua A, 123"));
+        Place other = placeRepository.save(new Place("Salão Verde", 80, "Rua B, 456"));
+        booking = bookingRepository.save(new Booking(place, "Maria", base,
+            new BigDecimal("500.00"), PartyPackageEnum.BASIC, base.plusHours(4)));
+        bookingRepository.save(new Booking(other, "João", base,
+            new BigDecimal("700.00"), PartyPackageEnum.PREMIUM, base.plusHours(4)));
+        bookingRepository.save(new Booking(other, "Ana", base.plusDays(1),
+            new BigDecimal("900.00"), PartyPackageEnum.STANDARD, base.plusDays(1).plusHours(4)));
+        client = clientRepository.save(new Client("Carlos", "(11) 99999-0000", LocalDate.of(1990, 5, 20)));
+
+        entityManager.flush();
+        entityManager.clear();
+        placeCatalogue.invalidate();
+    }
+
+    @Test
+    @DisplayName("Should list bookings in a single statement")
+    void shouldListBookingsInSingleStatement() throws Exception {
+        mockMvc.perform(get("/booking").with(admin()))
+            .andExpect(status().isOk())
+            .andExpect(statements(1));
+    }
+
+    @Test
+    @DisplayName("Should find booking by id in a single statement")
+    void shouldFindBookingByIdInSingleStatement() throws Exception {
+        mockMvc.perform(get("/booking/{id}", booking.getId()).with(admin()))
+            .andExpect(status().isOk())
+            .andExpect(statements(1));
+    }
+
+    @Test
+    @DisplayName("Should list places in a single statement")
+    void shouldListPlacesInSingleStatement() throws Exception {
+        mockMvc.perform(get("/place").with(admin()))
+            .andExpect(status().isOk())
+            .andExpect(statements(1));
+    }
+
+    @Test
+    @DisplayName("Should find place by id in a single statement")
+    void shouldFindPlaceByIdInSingleStatement() throws Exception {
+        mockMvc.perform(get("/place/{id}", place.getId()).with(admin()))
+            .andExpect(status().isOk())
+            .andExpect(statements(1));
+    }
+
+    @Test
+    @DisplayName("Should list clients in a single statement")
+    void shouldListClientsInSingleStatement() throws Exception {
+        mockMvc.perform(get("/clients").with(admin()))
+            .andExpect(status().isOk())
+            .andExpect(statements(1));
+    }
+
+    @Test
+    @DisplayName("Should find client by id in a single statement")
+    void shouldFindClientByIdInSingleStatement() throws Exception {
+        mockMvc.perform(get("/clients/{id}", client.getId()).with(admin()))
+            .andExpect(status().isOk())
+            .andExpect(statements(1));
+    }
+
+    private static RequestPostProcessor admin() {
+        return jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.devnicolas.api_agendamentos_festas.config.sql;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * ResultMatcher de MockMvc para a quantidade exata de statements SQL de uma
+ * requisição. Lê o header X-Sql-Statements, então o teste precisa subir com
+ * sql.stats.headers=true.
+ */
+public final class SqlStatementCounts {
+
+    private SqlStatementCounts() {
+    }
+
+    public static ResultMatcher statements(int expected) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatementFilter.STATEMENTS_HEADER);
+            assertNotNull(header, "Resposta sem " + SqlStatementFilter.STATEMENTS_HEADER + "; sql.stats.headers está ligado?");
+            assertEquals(expected, Integer.parseInt(header),
+                () -> "Statements SQL em " + result.getRequest().getMethod() + " " + result.getRequest().getRequestURI());
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.devnicolas.api_agendamentos_festas.interfaces.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Barramento de invalidação contra o Postgres local (com Spring + Postgres)
+ *
+ * Valida APENAS:
+ * - Evict em um nó chegando via LISTEN/NOTIFY ao cache do outro nó
+ *
+ * Os dois nós são instâncias do barramento criadas no teste, fora do contexto.
+ */
+@SpringBootTest(properties = {
+    "booking.expiry.enabled=false"
+})
+@DisplayName("CacheInvalidationBus Integration Tests")
+class CacheInvalidationBusIntegrationTest {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(200);
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<CacheInvalidationBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(CacheInvalidationBus::stop);
+    }
+
+    @Test
+    @DisplayName("Should evict the entry on the other node through LISTEN/NOTIFY")
+    void shouldEvictTheEntryOnTheOtherNodeThroughListenNotify() throws InterruptedException {
+        // Arrange
+        CountDownLatch listening = new CountDownLatch(1);
+        CacheInvalidationBus nodeA = bus();
+        ViewCache<Long, String> cacheA = ViewCache.of("place", 100, Duration.ofMinutes(10),
+            new SimpleMeterRegistry(), nodeA::publish);
+        nodeA.register(cacheA);
+        // Roda a cada (re)conexão, depois do LISTEN
+        nodeA.register("listening", listening::countDown);
+        nodeA.start();
+        assertTrue(listening.await(10, TimeUnit.SECONDS));
+
+        CacheInvalidationBus nodeB = bus();
+        ViewCache<Long, String> cacheB = ViewCache.of("place", 100, Duration.ofMinutes(10),
+            new SimpleMeterRegistry(), nodeB::publish);
+        AtomicInteger loads = new AtomicInteger();
+        load(cacheA, loads);
+
+        // Act
+        cacheB.evict(42L);
+
+        // Assert
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (loads.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(POLL_TIMEOUT.toMillis() / 2);
+            load(cacheA, loads);
+        }
+        assertEquals(2, loads.get());
+    }
+
+    private CacheInvalidationBus bus() {
+        CacheInvalidationBus bus = new CacheInvalidationBus(dataSourceProperties, jdbcTemplate,
+            new SimpleMeterRegistry(), true, POLL_TIMEOUT);
+        buses.add(bus);
+        return bus;
+    }
+
+    private static void load(ViewCache<Long, String> cache, AtomicInteger loads) {
+        cache.get(42L, key -> {
+            loads.incrementAndGet();
+            return Optional.of("Salão " + key);
+        });
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.devnicolas.api_agendamentos_festas.interfaces.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do barramento de invalidação (com Mockito, sem Postgres)
+ *
+ * Valida APENAS:
+ * - Evict local publicando pg_notify
+ * - Evict em lote agrupando ids em payloads abaixo de 8000 bytes
+ * - Notificação de outra instância removendo as entradas locais
+ * - Notificação da própria instância sendo ignorada
+ *
+ * O LISTEN real contra o Postgres fica em CacheInvalidationBusIntegrationTest
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationBus Tests")
+class CacheInvalidationBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CacheInvalidationBus bus;
+    private ViewCache<Long, String> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        bus = new CacheInvalidationBus(new DataSourceProperties(), jdbcTemplate, new SimpleMeterRegistry(), true, Duration.ofSeconds(1));
+        cache = ViewCache.of("place", 100, Duration.ofMinutes(10), new SimpleMeterRegistry(), bus::publish);
+        bus.register(cache);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should publish pg_notify when a cache entry is evicted")
+    @SuppressWarnings("unchecked")
+    void shouldPublishPgNotifyWhenACacheEntryIsEvicted() {
+        // Act
+        cache.evict(42L);
+
+        // Assert
+        verify(jdbcTemplate, times(1)).execute(eq("SELECT pg_notify(?, ?)"), any(PreparedStatementCallback.class));
+    }
+
+    @Test
+    @DisplayName("Should evict local entry on notification from another node")
+    void shouldEvictLocalEntryOnNotificationFromAnotherNode() {
+        // Arrange
+        load(42L);
+
+        // Act
+        bus.handle("outro-no|place|42");
+        load(42L);
+
+        // Assert
+        assertEquals(2, loads.get());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should pack bulk evictions into few payloads under the NOTIFY limit")
+    @SuppressWarnings("unchecked")
+    void shouldPackBulkEvictionsIntoFewPayloadsUnderTheNotifyLimit() throws Exception {
+        // Arrange
+        List<String> payloads = new ArrayList<>();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        doAnswer(invocation -> payloads.add(invocation.getArgument(1)))
+            .when(statement).setString(eq(2), any());
+        when(jdbcTemplate.execute(eq("SELECT pg_notify(?, ?)"), any(PreparedStatementCallback.class)))
+            .thenAnswer(invocation -> invocation.<PreparedStatementCallback<Boolean>>getArgument(1)
+                .doInPreparedStatement(statement));
+        List<Long> ids = LongStream.rangeClosed(1_000_000L, 1_002_000L).boxed().toList();
+
+        // Act
+        cache.evictAll(ids);
+
+        // Assert
+        assertEquals(3, payloads.size());
+        List<Long> published = new ArrayList<>();
+        for (String payload : payloads) {
+            assertTrue(payload.getBytes(StandardCharsets.UTF_8).length < 8000);
+            String[] parts = payload.split("\\|", 3);
+            assertEquals(bus.nodeId(), parts[0]);
+            assertEquals("place", parts[1]);
+            Arrays.stream(parts[2].split(",")).map(Long::valueOf).forEach(published::add);
+        }
+        assertEquals(ids, published);
+    }
+
+    @Test
+    @DisplayName("Should evict every id of a bulk notification from another node")
+    void shouldEvictEveryIdOfABulkNotificationFromAnotherNode() {
+        // Arrange
+        load(41L);
+        load(42L);
+
+        // Act
+        bus.handle("outro-no|place|41,42");
+        load(41L);
+        load(42L);
+
+        // Assert
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should ignore own notifications and unknown caches")
+    void shouldIgnoreOwnNotificationsAndUnknownCaches() {
+        // Arrange
+        load(42L);
+
+        // Act
+        bus.handle(bus.nodeId() + "|place|42");
+        bus.handle("outro-no|client|42");
+        bus.handle("formato-invalido");
+        load(42L);
+
+        // Assert
+        assertEquals(1, loads.get());
+    }
+
+    private void load(Long id) {
+        cache.get(id, key -> {
+            loads.incrementAndGet();
+            return Optional.of("Salão " + key);
+        });
+    }
+}
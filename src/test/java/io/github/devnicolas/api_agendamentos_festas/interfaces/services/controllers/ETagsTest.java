@@ -0,0 +1,45 @@
+package io.github.devnicolas.api_agendamentos_festas.interfaces.services.controllers;
+
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do cálculo de ETag dos DTOs de resposta
+ * Sem Spring e sem Mockito
+ */
+@DisplayName("ETags Tests")
+class ETagsTest {
+
+    @Test
+    @DisplayName("Should produce the same strong tag for equal content")
+    void shouldProduceTheSameStrongTagForEqualContent() {
+        String first = ETags.of(new PlaceResponseDTO("Salão", 100, "Rua 1", 1L));
+        String second = ETags.of(new PlaceResponseDTO("Salão", 100, "Rua 1", 1L));
+
+        assertEquals(first, second);
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+        assertFalse(first.startsWith("W/"));
+    }
+
+    @Test
+    @DisplayName("Should change tag when any field changes")
+    void shouldChangeTagWhenAnyFieldChanges() {
+        String original = ETags.of(new PlaceResponseDTO("Salão", 100, "Rua 1", 1L));
+
+        assertNotEquals(original, ETags.of(new PlaceResponseDTO("Salão", 120, "Rua 1", 1L)));
+        assertNotEquals(original, ETags.of(new PlaceResponseDTO("Salão", 100, "Rua 2", 1L)));
+    }
+
+    @Test
+    @DisplayName("Should include the page cursor in list tags")
+    void shouldIncludeThePageCursorInListTags() {
+        List<PlaceResponseDTO> items = List.of(new PlaceResponseDTO("Salão", 100, "Rua 1", 1L));
+
+        assertNotEquals(ETags.of(items, null), ETags.of(items, 1L));
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.devnicolas.api_agendamentos_festas.place;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.CacheInvalidationBus;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.KeysetPage;
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do catálogo pré-serializado de espaços (com Mockito)
+ *
+ * Valida APENAS:
+ * - JSON e gzip com o mesmo conteúdo
+ * - ETag própria para a representação gzip
+ * - Reuso dos bytes entre chamadas
+ * - Descarte após alteração de espaço
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceCatalogue Tests")
+class PlaceCatalogueTest {
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private PlaceCatalogue placeCatalogue;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        placeCatalogue = new PlaceCatalogue(new ObjectMapper(), invalidationBus, new SimpleMeterRegistry(), 16,
+            Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should serialize page to JSON and gzip once")
+    void shouldSerializePageToJsonAndGzipOnce() throws IOException {
+        // Act
+        PlaceCatalogue.Page first = placeCatalogue.page(null, 50, this::load);
+        PlaceCatalogue.Page second = placeCatalogue.page(null, 50, this::load);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals("[{\"name\":\"Salão\",\"capacity\":100,\"address\":\"Rua 1\",\"id\":1}]",
+            new String(first.json(), StandardCharsets.UTF_8));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertArrayEquals(first.json(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Should give the gzip representation its own strong ETag")
+    void shouldGiveTheGzipRepresentationItsOwnStrongETag() {
+        // Act
+        PlaceCatalogue.Page page = placeCatalogue.page(null, 50, this::load);
+
+        // Assert
+        assertNotEquals(page.etag(), page.gzipEtag());
+        assertEquals(page.etag().substring(0, page.etag().length() - 1) + "-gzip\"", page.gzipEtag());
+        assertFalse(page.gzipEtag().startsWith("W/"));
+    }
+
+    @Test
+    @DisplayName("Should rebuild after invalidation and notify other nodes")
+    void shouldRebuildAfterInvalidationAndNotifyOtherNodes() {
+        // Arrange
+        placeCatalogue.page(null, 50, this::load);
+
+        // Act
+        placeCatalogue.invalidate();
+        placeCatalogue.page(null, 50, this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+        verify(invalidationBus, times(1)).publishClear(PlaceCatalogue.NAME);
+    }
+
+    private KeysetPage<PlaceResponseDTO, Long> load() {
+        loads.incrementAndGet();
+        return new KeysetPage<>(List.of(new PlaceResponseDTO("Salão", 100, "Rua 1", 1L)), null);
+    }
+}
@@ -1,13 +1,26 @@
 package io.github.devnicolas.api_agendamentos_festas.place;
 
+import io.github.devnicolas.api_agendamentos_festas.exception.ResourceNotFoundException;
+import io.github.devnicolas.api_agendamentos_festas.exception.ValidationException;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.KeysetPage;
+import io.github.devnicolas.api_agendamentos_festas.interfaces.services.ViewCache;
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceOccupancyDTO;
 import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceRequestDTO;
+import io.github.devnicolas.api_agendamentos_festas.place.dtos.PlaceResponseDTO;
+import io.github.devnicolas.api_agendamentos_festas.place.occupancy.BookedPeriod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +35,7 @@ import static org.mockito.Mockito.*;
  * - Interações com repositório
  * - Lançamento de exceções para dependências não encontradas
  * - Delegação correta para métodos da entidade
+ * - Métricas de CRUD (crud.operation / crud.result.size)
  *
  * NÃO testa validações da entidade (já testadas em PlaceDomainTest)
  */
@@ -32,11 +46,17 @@ class PlaceServiceTest {
     @Mock
     private PlaceRepository placeRepository;
 
+    @Mock
+    private PlaceCatalogue placeCatalogue;
+
     private PlaceService placeService;
+    private MeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        placeService = new PlaceService(placeRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        placeService = new PlaceService(placeRepository,
+            ViewCache.of("place", 100, Duration.ofMinutes(10), meterRegistry), placeCatalogue, meterRegistry);
     }
 
     // ============ CREATE TESTS ============
@@ -139,6 +159,112 @@ class PlaceServiceTest {
         verify(placeRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("Should return next cursor when page is full")
+    void shouldReturnNextCursorWhenPageIsFull() {
+        // Arrange
+        when(placeRepository.findViewPageAfter(10L, Limit.of(2))).thenReturn(List.of(
+            new PlaceResponseDTO("Salão 1", 100, "Rua 1", 11L),
+            new PlaceResponseDTO("Salão 2", 200, "Rua 2", 12L)));
+
+        // Act
+        KeysetPage<PlaceResponseDTO, Long> page = placeService.findViewPage(10L, 2);
+
+        // Assert
+        assertEquals(2, page.items().size());
+        assertEquals(12L, page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should return no cursor on last page")
+    void shouldReturnNoCursorOnLastPage() {
+        // Arrange
+        when(placeRepository.findViewPage(Limit.of(50))).thenReturn(List.of(new PlaceResponseDTO("Salão", 100, "Rua 1", 1L)));
+
+        // Act
+        KeysetPage<PlaceResponseDTO, Long> page = placeService.findViewPage(null, 50);
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject page limit out of range")
+    void shouldRejectPageLimitOutOfRange() {
+        assertThrows(ValidationException.class, () -> placeService.findViewPage(null, 0));
+        assertThrows(ValidationException.class, () -> placeService.findViewPage(null, 501));
+        verify(placeRepository, never()).findViewPage(any());
+    }
+
+    // ============ AVAILABILITY TESTS ============
+
+    @Test
+    @DisplayName("Should search available places delegating to repository")
+    void shouldSearchAvailablePlacesDelegatingToRepository() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.now().plusDays(10);
+        LocalDateTime to = from.plusHours(4);
+        Place place = new Place("Salão", 150, "Rua 1");
+        when(placeRepository.findAvailable(from, to, 100)).thenReturn(List.of(place));
+
+        // Act
+        List<Place> result = placeService.findAvailable(from, to, 100);
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(placeRepository, times(1)).findAvailable(from, to, 100);
+    }
+
+    @Test
+    @DisplayName("Should reject availability search with invalid period")
+    void shouldRejectAvailabilitySearchWithInvalidPeriod() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.now().plusDays(10);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> placeService.findAvailable(from, from, 10));
+        assertThrows(ValidationException.class, () -> placeService.findAvailable(null, from, 10));
+        verify(placeRepository, never()).findAvailable(any(), any(), anyInt());
+    }
+
+    // ============ OCCUPANCY TESTS ============
+
+    @Test
+    @DisplayName("Should build occupancy calendar from booked periods of the month")
+    void shouldBuildOccupancyCalendarFromBookedPeriodsOfTheMonth() {
+        // Arrange
+        YearMonth month = YearMonth.of(2030, 2);
+        LocalDateTime from = LocalDateTime.of(2030, 2, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 3, 1, 0, 0);
+        BookedPeriod period = mock(BookedPeriod.class);
+        when(period.getEventDate()).thenReturn(LocalDateTime.of(2030, 2, 1, 0, 0));
+        when(period.getDateEnd()).thenReturn(LocalDateTime.of(2030, 2, 1, 0, 30));
+        when(placeRepository.findViewById(1L)).thenReturn(Optional.of(new PlaceResponseDTO("Salão", 100, "Rua 1", 1L)));
+        when(placeRepository.findBookedPeriods(1L, from, to)).thenReturn(List.of(period));
+
+        // Act
+        PlaceOccupancyDTO occupancy = placeService.occupancy(1L, month);
+
+        // Assert
+        assertEquals(28, occupancy.days().size());
+        assertEquals(15, occupancy.slotMinutes());
+        assertEquals("AwAAAAAAAAAAAAAA", occupancy.days().get(0));
+        assertEquals("AAAAAAAAAAAAAAAA", occupancy.days().get(27));
+    }
+
+    @Test
+    @DisplayName("Should reject occupancy of unknown place without querying bookings")
+    void shouldRejectOccupancyOfUnknownPlaceWithoutQueryingBookings() {
+        // Arrange
+        when(placeRepository.findViewById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> placeService.occupancy(99L, YearMonth.of(2030, 2)));
+        assertThrows(ValidationException.class, () -> placeService.occupancy(99L, null));
+        verify(placeRepository, never()).findBookedPeriods(any(), any(), any());
+    }
+
     // ============ UPDATE TESTS ============
 
     @Test
@@ -159,6 +285,7 @@ class PlaceServiceTest {
         assertNotNull(result);
         verify(placeRepository, times(1)).findById(placeId);
         verify(placeRepository, times(1)).save(any(Place.class));
+        verify(placeCatalogue, times(1)).invalidate();
     }
 
     @Test
@@ -218,5 +345,107 @@ class PlaceServiceTest {
         assertThrows(RuntimeException.class, () -> placeService.delete(placeId));
         verify(placeRepository, never()).deleteById(placeId);
     }
-}
 
+    // ============ CACHE TESTS ============
+
+    @Test
+    @DisplayName("Should serve repeated lookups from cache and count hits and misses")
+    void shouldServeRepeatedLookupsFromCacheAndCountHitsAndMisses() {
+        // Arrange
+        Long placeId = 1L;
+        when(placeRepository.findViewById(placeId))
+            .thenReturn(Optional.of(new PlaceResponseDTO("Salão", 100, "Rua 123", placeId)));
+
+        // Act
+        placeService.findViewById(placeId);
+        placeService.findViewById(placeId);
+        Optional<PlaceResponseDTO> result = placeService.findViewById(placeId);
+
+        // Assert
+        assertEquals("Salão", result.orElseThrow().name());
+        verify(placeRepository, times(1)).findViewById(placeId);
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "place").tag("result", "hit")
+            .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "place").tag("result", "miss")
+            .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should evict cached place on update")
+    void shouldEvictCachedPlaceOnUpdate() {
+        // Arrange
+        Long placeId = 1L;
+        Place existingPlace = new Place("Salão Original", 100, "Rua Original");
+        when(placeRepository.findViewById(placeId))
+            .thenReturn(Optional.of(new PlaceResponseDTO("Salão Original", 100, "Rua Original", placeId)))
+            .thenReturn(Optional.of(new PlaceResponseDTO("Novo Salão", 200, "Nova Rua", placeId)));
+        when(placeRepository.findById(placeId)).thenReturn(Optional.of(existingPlace));
+        when(placeRepository.save(any(Place.class))).thenReturn(existingPlace);
+        placeService.findViewById(placeId);
+
+        // Act
+        placeService.update(placeId, new PlaceRequestDTO("Novo Salão", 200, "Nova Rua"));
+
+        // Assert
+        assertEquals("Novo Salão", placeService.findViewById(placeId).orElseThrow().name());
+        verify(placeRepository, times(2)).findViewById(placeId);
+    }
+
+    @Test
+    @DisplayName("Should not cache missing places")
+    void shouldNotCacheMissingPlaces() {
+        // Arrange
+        when(placeRepository.findViewById(999L)).thenReturn(Optional.empty());
+
+        // Act
+        placeService.findViewById(999L);
+        placeService.findViewById(999L);
+
+        // Assert
+        verify(placeRepository, times(2)).findViewById(999L);
+    }
+
+    // ============ METRICS TESTS ============
+
+    @Test
+    @DisplayName("Should time operations by entity and outcome")
+    void shouldTimeOperationsByEntityAndOutcome() {
+        // Arrange
+        Place place = new Place("Salão de Festas", 100, "Rua Principal, 123");
+        when(placeRepository.findById(1L)).thenReturn(Optional.of(place));
+        when(placeRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // Act
+        placeService.findById(1L);
+        placeService.findById(2L);
+        assertThrows(ResourceNotFoundException.class,
+            () -> placeService.update(2L, new PlaceRequestDTO("Novo", 10, "Rua")));
+
+        // Assert
+        assertEquals(1, meterRegistry.get("crud.operation").tag("entity", "place").tag("operation", "findById")
+            .tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("crud.operation").tag("entity", "place").tag("operation", "findById")
+            .tag("outcome", "not_found").timer().count());
+        assertEquals(1, meterRegistry.get("crud.operation").tag("entity", "place").tag("operation", "update")
+            .tag("outcome", "not_found").tag("exception", "ResourceNotFoundException").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should record invalid outcome and result sizes")
+    void shouldRecordInvalidOutcomeAndResultSizes() {
+        // Arrange
+        when(placeRepository.findAll()).thenReturn(List.of(
+            new Place("Salão 1", 100, "Rua 1"),
+            new Place("Salão 2", 200, "Rua 2")));
+
+        // Act
+        placeService.findAll();
+        assertThrows(ValidationException.class, () -> placeService.findViewPage(null, 0));
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("crud.result.size").tag("entity", "place").tag("operation", "findAll")
+            .summary().totalAmount());
+        assertEquals(1, meterRegistry.get("crud.operation").tag("operation", "findViewPage")
+            .tag("outcome", "invalid").tag("exception", "ValidationException").timer().count());
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.devnicolas.api_agendamentos_festas.place.occupancy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do calendário de ocupação por faixas de 15 minutos
+ * Sem Spring e sem Mockito
+ */
+@DisplayName("OccupancyCalendar Tests")
+class OccupancyCalendarTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2030, 1);
+
+    @Test
+    @DisplayName("Should encode one bitmap of 12 bytes per day of the month")
+    void shouldEncodeOneBitmapOf12BytesPerDayOfTheMonth() {
+        OccupancyCalendar calendar = new OccupancyCalendar(MONTH);
+
+        List<String> days = calendar.encodeDays();
+
+        assertEquals(31, days.size());
+        assertEquals(12, Base64.getDecoder().decode(days.get(0)).length);
+        assertEquals(LocalDateTime.of(2030, 1, 1, 0, 0), calendar.from());
+        assertEquals(LocalDateTime.of(2030, 2, 1, 0, 0), calendar.to());
+    }
+
+    @Test
+    @DisplayName("Should mark every slot touched by the booking, including partial ones")
+    void shouldMarkEverySlotTouchedByTheBookingIncludingPartialOnes() {
+        OccupancyCalendar calendar = new OccupancyCalendar(MONTH);
+
+        // 18:10 até 19:05 toca 18:00, 18:15, 18:30, 18:45 e 19:00
+        calendar.mark(LocalDateTime.of(2030, 1, 10, 18, 10), LocalDateTime.of(2030, 1, 10, 19, 5));
+
+        BitSet day = decode(calendar.encodeDays().get(9));
+        assertEquals(5, day.cardinality());
+        assertEquals(72, day.nextSetBit(0));
+        assertEquals(76, day.previousSetBit(95));
+    }
+
+    @Test
+    @DisplayName("Should treat booking end as exclusive on slot boundaries")
+    void shouldTreatBookingEndAsExclusiveOnSlotBoundaries() {
+        OccupancyCalendar calendar = new OccupancyCalendar(MONTH);
+
+        calendar.mark(LocalDateTime.of(2030, 1, 1, 10, 0), LocalDateTime.of(2030, 1, 1, 10, 30));
+
+        BitSet day = decode(calendar.encodeDays().get(0));
+        assertTrue(day.get(40));
+        assertTrue(day.get(41));
+        assertFalse(day.get(42));
+    }
+
+    @Test
+    @DisplayName("Should split overnight booking across days and clip outside the month")
+    void shouldSplitOvernightBookingAcrossDaysAndClipOutsideTheMonth() {
+        OccupancyCalendar calendar = new OccupancyCalendar(MONTH);
+
+        calendar.mark(LocalDateTime.of(2030, 1, 5, 23, 0), LocalDateTime.of(2030, 1, 6, 1, 0));
+        calendar.mark(LocalDateTime.of(2029, 12, 31, 22, 0), LocalDateTime.of(2030, 1, 1, 0, 15));
+        calendar.mark(LocalDateTime.of(2030, 1, 31, 23, 45), LocalDateTime.of(2030, 2, 1, 3, 0));
+
+        List<String> days = calendar.encodeDays();
+        assertEquals(4, decode(days.get(4)).cardinality());
+        assertEquals(4, decode(days.get(5)).cardinality());
+        assertTrue(decode(days.get(0)).get(0));
+        assertEquals(1, decode(days.get(0)).cardinality());
+        assertTrue(decode(days.get(30)).get(95));
+        assertEquals(1, decode(days.get(30)).cardinality());
+    }
+
+    // Mesmo layout de BitSet.toByteArray: slot i no bit i % 8 do byte i / 8
+    private static BitSet decode(String day) {
+        return BitSet.valueOf(Base64.getDecoder().decode(day));
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.devnicolas.api_agendamentos_festas.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do cache de JWT validados e de authorities (com Mockito)
+ *
+ * Valida APENAS:
+ * - Token repetido não passa de novo pelo decoder
+ * - Token rejeitado não é guardado
+ * - Entrada expira no exp do token ou no maxTtl
+ * - Authorities convertidas uma vez por Jwt
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingJwtDecoder Tests")
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T12:00:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        Ticker ticker = nanos::get;
+        decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(10), ticker, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should decode repeated token only once")
+    void shouldDecodeRepeatedTokenOnlyOnce() {
+        // Arrange
+        Jwt jwt = jwt("token-a", NOW.plusSeconds(300));
+        when(delegate.decode("token-a")).thenReturn(jwt);
+
+        // Act
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+
+        // Assert
+        assertSame(first, second);
+        verify(delegate, times(1)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Should not cache rejected tokens")
+    void shouldNotCacheRejectedTokens() {
+        // Arrange
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("assinatura inválida"));
+
+        // Act & Assert
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        verify(delegate, times(2)).decode("bad");
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    @DisplayName("Should drop entry when token expires")
+    void shouldDropEntryWhenTokenExpires() {
+        // Arrange
+        when(delegate.decode("token-a")).thenReturn(jwt("token-a", NOW.plusSeconds(30)));
+        decoder.decode("token-a");
+
+        // Act
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        decoder.decode("token-a");
+
+        // Assert
+        verify(delegate, times(2)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Should cap entry lifetime at max ttl")
+    void shouldCapEntryLifetimeAtMaxTtl() {
+        // Arrange
+        when(delegate.decode("token-a")).thenReturn(jwt("token-a", NOW.plus(Duration.ofHours(12))));
+        decoder.decode("token-a");
+
+        // Act
+        nanos.addAndGet(Duration.ofMinutes(9).toNanos());
+        decoder.decode("token-a");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        decoder.decode("token-a");
+
+        // Assert
+        verify(delegate, times(2)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Should convert authorities once per jwt")
+    void shouldConvertAuthoritiesOncePerJwt() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        Converter<Jwt, Collection<GrantedAuthority>> roles = mock(Converter.class);
+        when(roles.convert(any())).thenReturn(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        CachingGrantedAuthoritiesConverter converter = new CachingGrantedAuthoritiesConverter(roles, 100);
+        Jwt jwt = jwt("token-a", NOW.plusSeconds(300));
+
+        // Act
+        Collection<GrantedAuthority> first = converter.convert(jwt);
+        Collection<GrantedAuthority> second = converter.convert(jwt);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), first);
+        verify(roles, times(1)).convert(jwt);
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("user")
+            .issuedAt(NOW.minusSeconds(60))
+            .expiresAt(expiresAt)
+            .build();
+    }
+}
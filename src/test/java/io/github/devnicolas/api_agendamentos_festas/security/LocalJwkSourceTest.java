@@ -0,0 +1,210 @@
+package io.github.devnicolas.api_agendamentos_festas.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes das chaves JWKS locais com um par RSA gerado no teste
+ * Sem Spring e sem Mockito; o "Keycloak" é um HttpServer local
+ *
+ * Valida APENAS:
+ * - Validação com o JWKS de bootstrap, sem rede
+ * - Troca de chaves e snapshot após atualização
+ * - Últimas chaves mantidas quando a atualização falha, inclusive por RuntimeException
+ */
+@DisplayName("LocalJwkSource Tests")
+class LocalJwkSourceTest {
+
+    private static final String ISSUER = "http://localhost:8180/realms/agendamentos";
+
+    @TempDir
+    private Path dir;
+
+    private RSAKey bootstrapKey;
+    private RSAKey rotatedKey;
+    private Path bootstrapFile;
+    private Path snapshotFile;
+    private HttpServer keycloak;
+    private final AtomicReference<String> jwksBody = new AtomicReference<>();
+    private final AtomicInteger jwksStatus = new AtomicInteger(200);
+    private LocalJwkSource source;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bootstrapKey = new RSAKeyGenerator(2048).keyID("bootstrap").generate();
+        rotatedKey = new RSAKeyGenerator(2048).keyID("rotated").generate();
+        bootstrapFile = dir.resolve("jwks.json");
+        snapshotFile = dir.resolve("snapshot").resolve("jwks.json");
+        Files.writeString(bootstrapFile, new JWKSet(bootstrapKey).toString(true));
+
+        keycloak = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        keycloak.createContext("/certs", exchange -> {
+            byte[] body = String.valueOf(jwksBody.get()).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(jwksStatus.get(), body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        keycloak.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (source != null) {
+            source.close();
+        }
+        keycloak.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should validate token with bootstrap keys without network")
+    void shouldValidateTokenWithBootstrapKeysWithoutNetwork() throws Exception {
+        // Arrange
+        source = start(null);
+        JwtDecoder decoder = OfflineJwksConfig.decoder(source, ISSUER, List.of("RS256"));
+
+        // Act
+        Jwt jwt = decoder.decode(sign(bootstrapKey, ISSUER));
+
+        // Assert
+        assertEquals("user", jwt.getSubject());
+    }
+
+    @Test
+    @DisplayName("Should reject token signed by unknown key or issuer")
+    void shouldRejectTokenSignedByUnknownKeyOrIssuer() throws Exception {
+        // Arrange
+        source = start(null);
+        JwtDecoder decoder = OfflineJwksConfig.decoder(source, ISSUER, List.of("RS256"));
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> decoder.decode(sign(rotatedKey, ISSUER)));
+        assertThrows(JwtException.class, () -> decoder.decode(sign(bootstrapKey, "http://outro-issuer")));
+    }
+
+    @Test
+    @DisplayName("Should swap keys and write snapshot on refresh")
+    void shouldSwapKeysAndWriteSnapshotOnRefresh() throws Exception {
+        // Arrange
+        jwksBody.set(new JWKSet(rotatedKey).toString(true));
+        source = start(certsUri());
+
+        // Act
+        boolean refreshed = source.refresh();
+
+        // Assert
+        assertTrue(refreshed);
+        assertNotNull(source.currentKeys().getKeyByKeyId("rotated"));
+        assertTrue(Files.readString(snapshotFile).contains("\"rotated\""));
+        assertFalse(Files.readString(snapshotFile).contains("\"d\""), "snapshot não pode ter a chave privada");
+
+        // Uma nova subida usa o snapshot, não o bootstrap
+        source.close();
+        source = new LocalJwkSource(new FileSystemResource(bootstrapFile), snapshotFile, null,
+            Duration.ofMinutes(10), new SimpleMeterRegistry());
+        source.start();
+        Jwt jwt = OfflineJwksConfig.decoder(source, ISSUER, List.of("RS256")).decode(sign(rotatedKey, ISSUER));
+        assertEquals("user", jwt.getSubject());
+    }
+
+    @Test
+    @DisplayName("Should keep last known keys when refresh fails")
+    void shouldKeepLastKnownKeysWhenRefreshFails() throws Exception {
+        // Arrange
+        jwksStatus.set(503);
+        source = start(certsUri());
+        JwtDecoder decoder = OfflineJwksConfig.decoder(source, ISSUER, List.of("RS256"));
+
+        // Act
+        boolean refreshed = source.refresh();
+
+        // Assert
+        assertFalse(refreshed);
+        assertEquals("user", decoder.decode(sign(bootstrapKey, ISSUER)).getSubject());
+        assertFalse(Files.exists(snapshotFile));
+    }
+
+    @Test
+    @DisplayName("Should count unexpected runtime failure and keep last known keys")
+    void shouldCountUnexpectedRuntimeFailureAndKeepLastKnownKeys() throws Exception {
+        // Arrange: o HttpClient rejeita o esquema com IllegalArgumentException
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        source = new LocalJwkSource(new FileSystemResource(bootstrapFile), snapshotFile,
+            URI.create("ftp://localhost/certs"), Duration.ofHours(1), meterRegistry);
+        source.start();
+        JwtDecoder decoder = OfflineJwksConfig.decoder(source, ISSUER, List.of("RS256"));
+
+        // Act
+        boolean refreshed = source.refresh();
+
+        // Assert
+        assertFalse(refreshed);
+        assertTrue(meterRegistry.get("security.jwks.refresh").tag("result", "failure").counter().count() >= 1);
+        assertEquals("user", decoder.decode(sign(bootstrapKey, ISSUER)).getSubject());
+    }
+
+    @Test
+    @DisplayName("Should fail startup without snapshot or bootstrap")
+    void shouldFailStartupWithoutSnapshotOrBootstrap() {
+        LocalJwkSource empty = new LocalJwkSource(new FileSystemResource(dir.resolve("missing.json")), snapshotFile,
+            null, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+        assertThrows(IllegalStateException.class, empty::start);
+    }
+
+    private LocalJwkSource start(URI refreshUri) {
+        LocalJwkSource started = new LocalJwkSource(new FileSystemResource(bootstrapFile), snapshotFile, refreshUri,
+            Duration.ofHours(1), new SimpleMeterRegistry());
+        started.start();
+        return started;
+    }
+
+    private URI certsUri() {
+        return URI.create("http://localhost:" + keycloak.getAddress().getPort() + "/certs");
+    }
+
+    private static String sign(RSAKey key, String issuer) throws JOSEException {
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+            new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject("user")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(300)))
+                .build());
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
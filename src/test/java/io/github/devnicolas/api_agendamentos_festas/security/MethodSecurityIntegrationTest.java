@@ -0,0 +1,100 @@
+package io.github.devnicolas.api_agendamentos_festas.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de @PreAuthorize nos endpoints administrativos de agendamento (com Spring + MockMvc)
+ *
+ * Valida APENAS:
+ * - Token com ROLE_CLIENT recebe 403 nos endpoints restritos a ADMIN
+ *
+ * Os tokens são montados pelo spring-security-test; nenhum Keycloak é chamado.
+ */
+@SpringBootTest(properties = {
+    "booking.cache.enabled=false",
+    "booking.expiry.enabled=false"
+})
+@AutoConfigureMockMvc
+@DisplayName("Method Security Integration Tests")
+class MethodSecurityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static SimpleGrantedAuthority role(String role) {
+        return new SimpleGrantedAuthority("ROLE_" + role);
+    }
+
+    @Test
+    @DisplayName("Deve negar GET /booking/export para CLIENT")
+    void shouldDenyExportToClient() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/booking/export")
+                        .with(jwt().authorities(role("CLIENT"))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Deve negar POST /booking/batch para CLIENT")
+    void shouldDenyBatchToClient() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/booking/batch")
+                        .with(jwt().authorities(role("CLIENT")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Deve negar os endpoints /booking/analytics para CLIENT")
+    void shouldDenyAnalyticsToClient() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/booking/analytics/occupancy-by-weekday")
+                        .with(jwt().authorities(role("CLIENT"))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/booking/analytics/average-ticket")
+                        .with(jwt().authorities(role("CLIENT"))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Deve negar GET /booking/stats para CLIENT")
+    void shouldDenyStatsToClient() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/booking/stats")
+                        .param("groupBy", "place")
+                        .with(jwt().authorities(role("CLIENT"))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Deve permitir GET /booking/stats para ADMIN")
+    void shouldAllowStatsToAdmin() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/booking/stats")
+                        .param("groupBy", "place")
+                        .with(jwt().authorities(role("ADMIN"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve permitir GET /booking/analytics/average-ticket para ADMIN")
+    void shouldAllowAnalyticsToAdmin() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/booking/analytics/average-ticket")
+                        .with(jwt().authorities(role("ADMIN"))))
+                .andExpect(status().isOk());
+    }
+}